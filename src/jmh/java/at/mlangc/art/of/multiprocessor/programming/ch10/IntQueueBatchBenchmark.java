@@ -0,0 +1,81 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class IntQueueBatchBenchmark {
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    public enum QueueType {
+        LOCK_BASED(LockBasedUnboundedIntQueue::new),
+        CONCURRENT(ConcurrentUnboundedIntQueue::new),
+        CONCURRENT_BOUNDED(() -> new ConcurrentBoundedIntQueue(64 * MAX_BATCH_SIZE));
+
+        final Supplier<IntQueue> ctor;
+
+        QueueType(Supplier<IntQueue> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @Param
+    private QueueType queueType;
+
+    @Param({"1", "4", "16", "64", "256", "1024"})
+    private int batchSize;
+
+    private IntQueue queue;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ThreadState {
+        final int[] src = new int[MAX_BATCH_SIZE];
+        final int[] dst = new int[MAX_BATCH_SIZE];
+        public long elements;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            for (int i = 0; i < src.length; i++) {
+                src[i] = i;
+            }
+
+            elements = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        queue = queueType.ctor.get();
+    }
+
+    @Benchmark
+    public int enqAllThenDrainTo(ThreadState state) {
+        queue.enqAll(state.src, 0, batchSize);
+        var drained = queue.drainTo(state.dst, batchSize);
+        state.elements += drained;
+        return drained;
+    }
+
+    @Benchmark
+    public int enqThenDeqOneByOne(ThreadState state) {
+        for (int i = 0; i < batchSize; i++) {
+            queue.enq(state.src[i]);
+        }
+
+        var drained = 0;
+        Integer x;
+        while (drained < batchSize && (x = queue.tryDeq()) != null) {
+            state.dst[drained++] = x;
+        }
+
+        state.elements += drained;
+        return drained;
+    }
+}
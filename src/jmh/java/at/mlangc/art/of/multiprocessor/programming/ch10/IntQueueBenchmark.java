@@ -0,0 +1,139 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Producer/consumer ratios other than the ones below can be configured with `-tg <producers>,<consumers>`
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntQueueBenchmark {
+    private static final int BOUNDED_CAPACITY = 1 << 16;
+
+    public enum QueueType {
+        LOCK_BASED(LockBasedUnboundedIntQueue::new),
+        CONCURRENT(ConcurrentUnboundedIntQueue::new),
+        CONCURRENT_BLOCKING(ConcurrentUnboundedBlockingIntQueue::new),
+        CONCURRENT_BOUNDED(() -> new ConcurrentBoundedIntQueue(BOUNDED_CAPACITY)),
+        CONCURRENT_BOUNDED_PADDED(() -> new ConcurrentBoundedIntQueue(BOUNDED_CAPACITY, 8));
+
+        final Supplier<IntQueue> ctor;
+
+        QueueType(Supplier<IntQueue> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @State(Scope.Group)
+    public static class QueueState {
+        @Param
+        QueueType queueType;
+
+        IntQueue queue;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            queue = queueType.ctor.get();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long dequeued;
+        public long empty;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            dequeued = 0;
+            empty = 0;
+        }
+    }
+
+    // Producers use tryEnq, since blocking on a full bounded queue would never return once the consumers have stopped
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long enqueued;
+        public long full;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            enqueued = 0;
+            full = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        int next;
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public boolean oneToOneEnq(QueueState state, ProducerState producer, ProducerCounters counters) {
+        return enq(state, producer, counters);
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public Integer oneToOneDeq(QueueState state, ConsumerCounters counters) {
+        return deq(state, counters);
+    }
+
+    @Benchmark
+    @Group("manyToOne")
+    @GroupThreads(3)
+    public boolean manyToOneEnq(QueueState state, ProducerState producer, ProducerCounters counters) {
+        return enq(state, producer, counters);
+    }
+
+    @Benchmark
+    @Group("manyToOne")
+    @GroupThreads(1)
+    public Integer manyToOneDeq(QueueState state, ConsumerCounters counters) {
+        return deq(state, counters);
+    }
+
+    @Benchmark
+    @Group("oneToMany")
+    @GroupThreads(1)
+    public boolean oneToManyEnq(QueueState state, ProducerState producer, ProducerCounters counters) {
+        return enq(state, producer, counters);
+    }
+
+    @Benchmark
+    @Group("oneToMany")
+    @GroupThreads(3)
+    public Integer oneToManyDeq(QueueState state, ConsumerCounters counters) {
+        return deq(state, counters);
+    }
+
+    private static boolean enq(QueueState state, ProducerState producer, ProducerCounters counters) {
+        if (state.queue.tryEnq(producer.next)) {
+            producer.next++;
+            counters.enqueued++;
+            return true;
+        }
+
+        counters.full++;
+        return false;
+    }
+
+    private static Integer deq(QueueState state, ConsumerCounters counters) {
+        var x = state.queue.tryDeq();
+        if (x == null) {
+            counters.empty++;
+        } else {
+            counters.dequeued++;
+        }
+
+        return x;
+    }
+}
@@ -0,0 +1,46 @@
+package at.mlangc.art.of.multiprocessor.programming.ch11;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Meant to be run with `-prof gc` to compare `gc.alloc.rate.norm` between the implementations
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class IntStackAllocationBenchmark {
+    public enum StackType {
+        CONCURRENT(ConcurrentIntStack::new),
+        POOLED(() -> new PooledConcurrentIntStack(1024));
+
+        final Supplier<IntStack> ctor;
+
+        StackType(Supplier<IntStack> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @Param
+    private StackType stackType;
+
+    private IntStack stack;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int next;
+    }
+
+    @Setup
+    public void setup() {
+        stack = stackType.ctor.get();
+    }
+
+    @Benchmark
+    public int pushThenPop(ThreadState state) {
+        stack.push(state.next++);
+        return stack.pop();
+    }
+}
@@ -0,0 +1,65 @@
+package at.mlangc.art.of.multiprocessor.programming.ch11;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Every invocation pushes before it pops, so that the stack stays small enough for POOLED, even with many threads
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class IntStackBenchmark {
+    public enum StackType {
+        CONCURRENT(ConcurrentIntStack::new),
+        POOLED(() -> new PooledConcurrentIntStack(1024)),
+        ELIMINATION_BACKOFF(EliminationBackoffIntStack::new);
+
+        final Supplier<IntStack> ctor;
+
+        StackType(Supplier<IntStack> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @Param
+    private StackType stackType;
+
+    private IntStack stack;
+
+    @Setup
+    public void setup() {
+        stack = stackType.ctor.get();
+    }
+
+    private Integer pushAndPop() {
+        stack.push(42);
+        return stack.tryPop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads01() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads04() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer threads64() {
+        return pushAndPop();
+    }
+}
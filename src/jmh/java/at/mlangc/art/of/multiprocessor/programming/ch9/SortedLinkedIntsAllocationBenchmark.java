@@ -0,0 +1,58 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Meant to be run with `-prof gc` to compare `gc.alloc.rate.norm` between the implementations
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class SortedLinkedIntsAllocationBenchmark {
+    public enum Impl {
+        CONCURRENT(ConcurrentSortedLinkedInts::new),
+        MARKER_NODE(MarkerNodeSortedLinkedInts::new);
+
+        final Supplier<SortedLinkedInts> ctor;
+
+        Impl(Supplier<SortedLinkedInts> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @Param
+    private Impl impl;
+
+    @Param({"100"})
+    private int size;
+
+    private SortedLinkedInts ints;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int next;
+    }
+
+    @Setup
+    public void setup() {
+        ints = impl.ctor.get();
+
+        for (int x = 2 * (size - 1); x >= 0; x -= 2) {
+            ints.add(x);
+        }
+    }
+
+    @Benchmark
+    public boolean addThenRemove(ThreadState state) {
+        var x = 2 * (state.next++ % size) + 1;
+        return ints.add(x) & ints.remove(x);
+    }
+
+    @Benchmark
+    public boolean contains(ThreadState state) {
+        return ints.contains(state.next++ % (2 * size));
+    }
+}
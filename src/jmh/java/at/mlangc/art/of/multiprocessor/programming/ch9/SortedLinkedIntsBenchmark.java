@@ -0,0 +1,66 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class SortedLinkedIntsBenchmark {
+    public enum Impl {
+        COARSE_GRAINED(CoarseGrainedSortedLinkedInts::new),
+        FINE_GRAINED(FineGrainedSortedLinkedInts::new),
+        OPTIMISTIC(OptimisticSortedLinkedInts::new),
+        LAZY(LazySortedLinkedInts::new),
+        CONCURRENT(ConcurrentSortedLinkedInts::new),
+        MARKER_NODE(MarkerNodeSortedLinkedInts::new),
+        CONCURRENT_SKIP_LIST(ConcurrentSkipListInts::new);
+
+        final Supplier<SortedLinkedInts> ctor;
+
+        Impl(Supplier<SortedLinkedInts> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @Param
+    private Impl impl;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"50", "90", "99"})
+    private int readPercentage;
+
+    private SortedLinkedInts ints;
+
+    @Setup
+    public void setup() {
+        ints = impl.ctor.get();
+
+        // Adding in descending order keeps the setup linear for plain linked lists
+        for (int x = 2 * (size - 1); x >= 0; x -= 2) {
+            ints.add(x);
+        }
+    }
+
+    @Benchmark
+    public boolean mixedReadWrite() {
+        var rng = ThreadLocalRandom.current();
+        var x = rng.nextInt(2 * size);
+        var op = rng.nextInt(100);
+
+        if (op < readPercentage) {
+            return ints.contains(x);
+        } else if (((op - readPercentage) & 1) == 0) {
+            return ints.add(x);
+        } else {
+            return ints.remove(x);
+        }
+    }
+}
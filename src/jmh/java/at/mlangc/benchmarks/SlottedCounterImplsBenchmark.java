@@ -21,7 +21,9 @@ public class SlottedCounterImplsBenchmark {
         LOCK_BASED(SlottedCounterImpls.SlottedCounterUsingRentrantLock::new),
         ATOMIC_GUARD_BASED(SlottedCounterImpls.SlottedCounterUsingAtomicGuard::new),
         ATOMIC_ARRAY_NO_PADDING(numSlots -> new SlottedCounterImpls.SlottedCounterUsingAtomicArray(numSlots, 1)),
-        ATOMIC_ARRAY_PADDED(numSlots -> new SlottedCounterImpls.SlottedCounterUsingAtomicArray(numSlots, 8));
+        ATOMIC_ARRAY_PADDED(numSlots -> new SlottedCounterImpls.SlottedCounterUsingAtomicArray(numSlots, 8)),
+        ATOMIC_ARRAY_THREAD_AFFINE(numSlots -> new SlottedCounterImpls.SlottedCounterUsingAtomicArray(numSlots, 8, SlottedCounterImpls.SlottedCounterUsingAtomicArray.Mode.THREAD_AFFINE)),
+        STRIPED_CELLS(SlottedCounterImpls.SlottedCounterUsingStripedCells::new);
 
         final IntFunction<SlottedCounterImpls.SlottedCounter> ctor;
 
@@ -42,4 +44,26 @@ public class SlottedCounterImplsBenchmark {
         slottedCounter.increment();
         return slottedCounter.counts();
     }
+
+    // All threads share the counter, since it is part of the benchmark state
+    @Benchmark
+    @Threads(4)
+    public long[] threads04() {
+        slottedCounter.increment();
+        return slottedCounter.counts();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long[] threads16() {
+        slottedCounter.increment();
+        return slottedCounter.counts();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long[] threads64() {
+        slottedCounter.increment();
+        return slottedCounter.counts();
+    }
 }
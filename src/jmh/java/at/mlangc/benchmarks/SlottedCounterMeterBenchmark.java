@@ -0,0 +1,64 @@
+package at.mlangc.benchmarks;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Contention can be increased with `-t <threads>`
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class SlottedCounterMeterBenchmark {
+    public enum MeterType {
+        MICROMETER_COUNTER,
+        SLOTTED_COUNTER
+    }
+
+    @Param
+    private MeterType meterType;
+
+    private SimpleMeterRegistry registry;
+    private Counter counter;
+    private SlottedCounterImpls.SlottedCounter slottedCounter;
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+
+        switch (meterType) {
+            case MICROMETER_COUNTER -> counter = Counter.builder("events").register(registry);
+            case SLOTTED_COUNTER -> {
+                var binder = new SlottedCounterMeterBinder("events", new SlottedCounterImpls.SlottedCounterUsingStripedCells(64));
+                binder.bindTo(registry);
+                slottedCounter = binder.counter();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        var count = switch (meterType) {
+            case MICROMETER_COUNTER -> registry.get("events").counter().count();
+            case SLOTTED_COUNTER -> registry.get("events").functionCounter().count();
+        };
+
+        if (count <= 0) {
+            throw new AssertionError("Nothing counted");
+        }
+
+        registry.close();
+    }
+
+    @Benchmark
+    public void increment() {
+        if (slottedCounter != null) {
+            slottedCounter.increment();
+        } else {
+            counter.increment();
+        }
+    }
+}
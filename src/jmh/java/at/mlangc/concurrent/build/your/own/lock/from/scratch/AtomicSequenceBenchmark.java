@@ -1,6 +1,7 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -17,16 +18,19 @@ public class AtomicSequenceBenchmark {
 
     static class SimpleLockBasedSequence implements AtomicSequence {
         final SimpleLock lock;
+        final long criticalSectionTokens;
         long value;
 
-        SimpleLockBasedSequence(SimpleLock lock) {
+        SimpleLockBasedSequence(SimpleLock lock, long criticalSectionTokens) {
             this.lock = lock;
+            this.criticalSectionTokens = criticalSectionTokens;
         }
 
         @Override
         public long next() {
             try {
                 lock.lock();
+                Blackhole.consumeCPU(criticalSectionTokens);
                 return value++;
             } finally {
                 lock.unlock();
@@ -36,13 +40,17 @@ public class AtomicSequenceBenchmark {
 
     public enum SeqImplType {
         COMPARE_AND_SET_LOCK, JAVA_REENTRANT_LOCK, JAVA_REENTRANT_LOCK_FAIR, SYNCHRONIZED, ATOMIC_GET_AND_INCREMENT, GET_AND_SET_LOCK, REENTRANT_GET_AND_SET_LOCK,
-        REENTRANT_GET_AND_SET_LOCK_WITH_BACKOFF, CLH_QUEUE_LOCK, CLH_QUEUE_WITH_HASH_MAP_LOCK, CLH_QUEUE_LOCK_FANCY,
-        MCS_LOCK, REENTRANT_LIKE_QUEUE_LOCK;
+        REENTRANT_GET_AND_SET_LOCK_WITH_BACKOFF, CLH_QUEUE_LOCK, CLH_QUEUE_LOCK_TIMEOUT, CLH_QUEUE_WITH_HASH_MAP_LOCK, CLH_QUEUE_LOCK_FANCY, CLH_QUEUE_LOCK_PARKING,
+        MCS_LOCK, MCS_LOCK_FIXED_SPINS, REENTRANT_LIKE_QUEUE_LOCK;
     }
 
-    @Param({"JAVA_REENTRANT_LOCK", "UNFAIR_QUEUE_LOCK", "COMPARE_AND_SET_LOCK"})
+    @Param({"JAVA_REENTRANT_LOCK", "COMPARE_AND_SET_LOCK", "CLH_QUEUE_LOCK", "CLH_QUEUE_LOCK_PARKING", "MCS_LOCK", "MCS_LOCK_FIXED_SPINS"})
     SeqImplType implType;
 
+    // Simulated work while holding the lock; ignored by ATOMIC_GET_AND_INCREMENT
+    @Param({"0", "1000"})
+    long criticalSectionTokens;
+
     AtomicSequence sequence;
 
     @Setup
@@ -53,6 +61,7 @@ public class AtomicSequenceBenchmark {
 
                 @Override
                 public synchronized long next() {
+                    Blackhole.consumeCPU(criticalSectionTokens);
                     return value++;
                 }
             };
@@ -66,22 +75,36 @@ public class AtomicSequenceBenchmark {
                 }
             };
 
-            case JAVA_REENTRANT_LOCK -> new SimpleLockBasedSequence(new JavaUtilConcurrentReentrantLock());
-            case JAVA_REENTRANT_LOCK_FAIR -> new SimpleLockBasedSequence(new JavaUtilConcurrentReentrantLock(true));
-            case COMPARE_AND_SET_LOCK -> new SimpleLockBasedSequence(new CompareAndSetLock());
-            case GET_AND_SET_LOCK -> new SimpleLockBasedSequence(new GetAndSetLock());
-            case REENTRANT_GET_AND_SET_LOCK -> new SimpleLockBasedSequence(new ReentrantGetAndSetLock());
-            case REENTRANT_GET_AND_SET_LOCK_WITH_BACKOFF -> new SimpleLockBasedSequence(new ReentrantGetAndSetLockWithBackoff(500, 10_000, TimeUnit.MICROSECONDS));
-            case CLH_QUEUE_LOCK -> new SimpleLockBasedSequence(new ClhQueueLock());
-            case CLH_QUEUE_WITH_HASH_MAP_LOCK -> new SimpleLockBasedSequence(new ClhQueueWithHashMapLock());
-            case CLH_QUEUE_LOCK_FANCY -> new SimpleLockBasedSequence(new FancyClhQueueLock());
-            case MCS_LOCK -> new SimpleLockBasedSequence(new McsLock());
-            case REENTRANT_LIKE_QUEUE_LOCK -> new SimpleLockBasedSequence(new ReentrantLikeQueueLock());
+            case JAVA_REENTRANT_LOCK -> locked(new JavaUtilConcurrentReentrantLock());
+            case JAVA_REENTRANT_LOCK_FAIR -> locked(new JavaUtilConcurrentReentrantLock(true));
+            case COMPARE_AND_SET_LOCK -> locked(new CompareAndSetLock());
+            case GET_AND_SET_LOCK -> locked(new GetAndSetLock());
+            case REENTRANT_GET_AND_SET_LOCK -> locked(new ReentrantGetAndSetLock());
+            case REENTRANT_GET_AND_SET_LOCK_WITH_BACKOFF -> locked(new ReentrantGetAndSetLockWithBackoff(500, 10_000, TimeUnit.MICROSECONDS));
+            case CLH_QUEUE_LOCK -> locked(new ClhQueueLock());
+            case CLH_QUEUE_LOCK_TIMEOUT -> locked(new TimeoutClhQueueLock());
+            case CLH_QUEUE_WITH_HASH_MAP_LOCK -> locked(new ClhQueueWithHashMapLock());
+            case CLH_QUEUE_LOCK_FANCY -> locked(new FancyClhQueueLock());
+            case CLH_QUEUE_LOCK_PARKING -> locked(new ParkingClhQueueLock());
+            case MCS_LOCK -> locked(new McsLock());
+            case MCS_LOCK_FIXED_SPINS -> locked(new McsLock(false));
+            case REENTRANT_LIKE_QUEUE_LOCK -> locked(new ReentrantLikeQueueLock());
         };
     }
 
+    private AtomicSequence locked(SimpleLock lock) {
+        return new SimpleLockBasedSequence(lock, criticalSectionTokens);
+    }
+
     @Benchmark
     public long getAndIncrementLocked() {
         return sequence.next();
     }
+
+    // More threads than cores on typical machines, to see how locks that only spin degrade compared to locks that park
+    @Benchmark
+    @Threads(64)
+    public long getAndIncrementLockedOversubscribed() {
+        return sequence.next();
+    }
 }
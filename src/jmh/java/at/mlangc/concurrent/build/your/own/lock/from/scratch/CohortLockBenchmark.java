@@ -0,0 +1,73 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Only multi socket machines show the benefits of cohorting for real; COHORT_LOCK_HASHED_CLUSTERS simulates
+// clusters by hashing thread ids, and thus shows the overhead of the additional lock level on other machines.
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class CohortLockBenchmark {
+    public enum LockType {
+        MCS_LOCK, COHORT_LOCK, COHORT_LOCK_HASHED_CLUSTERS
+    }
+
+    @Param
+    LockType lockType;
+
+    SimpleLock lock;
+
+    // Spans multiple cache lines that have to move to whatever node the lock holder is running on
+    final long[] protectedData = new long[64];
+
+    @Setup
+    public void setup() {
+        lock = switch (lockType) {
+            case MCS_LOCK -> new McsLock();
+            case COHORT_LOCK -> new CohortLock();
+            case COHORT_LOCK_HASHED_CLUSTERS -> new CohortLock(CpuTopology.hashingThreadIds(4), 64);
+        };
+    }
+
+    private long updateProtectedData() {
+        lock.lock();
+        try {
+            var sum = 0L;
+            for (int i = 0; i < protectedData.length; i += 8) {
+                sum += ++protectedData[i];
+            }
+
+            return sum;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threads01() {
+        return updateProtectedData();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long threads04() {
+        return updateProtectedData();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long threads16() {
+        return updateProtectedData();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long threads64() {
+        return updateProtectedData();
+    }
+}
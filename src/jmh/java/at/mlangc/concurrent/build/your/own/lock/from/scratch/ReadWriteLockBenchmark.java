@@ -0,0 +1,148 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+// Run with -t to see how the implementations scale with the number of threads
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class ReadWriteLockBenchmark {
+    interface Point {
+        long readSum();
+        void move();
+    }
+
+    public enum PointImplType {
+        REENTRANT_READ_WRITE_LOCK, STAMPED_LOCK_OPTIMISTIC, DISTRIBUTED_READ_WRITE_LOCK, DISTRIBUTED_READ_WRITE_LOCK_OPTIMISTIC
+    }
+
+    @Param({"REENTRANT_READ_WRITE_LOCK", "STAMPED_LOCK_OPTIMISTIC", "DISTRIBUTED_READ_WRITE_LOCK", "DISTRIBUTED_READ_WRITE_LOCK_OPTIMISTIC"})
+    PointImplType implType;
+
+    @Param({"50", "95", "99"})
+    int readPercentage;
+
+    Point point;
+
+    @Setup
+    public void setup() {
+        point = switch (implType) {
+            case REENTRANT_READ_WRITE_LOCK -> new Point() {
+                final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                long x, y;
+
+                @Override
+                public long readSum() {
+                    lock.readLock().lock();
+                    try {
+                        return x + y;
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                }
+
+                @Override
+                public void move() {
+                    lock.writeLock().lock();
+                    try {
+                        x++;
+                        y--;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+            };
+
+            case STAMPED_LOCK_OPTIMISTIC -> new Point() {
+                final StampedLock lock = new StampedLock();
+                long x, y;
+
+                @Override
+                public long readSum() {
+                    var stamp = lock.tryOptimisticRead();
+                    var sum = x + y;
+                    if (lock.validate(stamp)) {
+                        return sum;
+                    }
+
+                    stamp = lock.readLock();
+                    try {
+                        return x + y;
+                    } finally {
+                        lock.unlockRead(stamp);
+                    }
+                }
+
+                @Override
+                public void move() {
+                    var stamp = lock.writeLock();
+                    try {
+                        x++;
+                        y--;
+                    } finally {
+                        lock.unlockWrite(stamp);
+                    }
+                }
+            };
+
+            case DISTRIBUTED_READ_WRITE_LOCK -> new DistributedReadWriteLockPoint(false);
+            case DISTRIBUTED_READ_WRITE_LOCK_OPTIMISTIC -> new DistributedReadWriteLockPoint(true);
+        };
+    }
+
+    static class DistributedReadWriteLockPoint implements Point {
+        final DistributedReadWriteLock lock = new DistributedReadWriteLock();
+        final boolean optimistic;
+        long x, y;
+
+        DistributedReadWriteLockPoint(boolean optimistic) {
+            this.optimistic = optimistic;
+        }
+
+        @Override
+        public long readSum() {
+            if (optimistic) {
+                var stamp = lock.tryOptimisticRead();
+                var sum = x + y;
+                if (lock.validate(stamp)) {
+                    return sum;
+                }
+            }
+
+            lock.readLock().lock();
+            try {
+                return x + y;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void move() {
+            lock.writeLock().lock();
+            try {
+                x++;
+                y--;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Benchmark
+    public long readOrWrite() {
+        if (ThreadLocalRandom.current().nextInt(100) < readPercentage) {
+            return point.readSum();
+        }
+
+        point.move();
+        return 0;
+    }
+}
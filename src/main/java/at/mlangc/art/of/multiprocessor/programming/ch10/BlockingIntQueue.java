@@ -0,0 +1,12 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import java.util.concurrent.TimeUnit;
+
+public interface BlockingIntQueue extends IntQueue {
+    // Any other result of poll is the dequeued int, so that polling never allocates
+    long TIMED_OUT = Long.MIN_VALUE;
+
+    int take();
+
+    long poll(long timeout, TimeUnit unit);
+}
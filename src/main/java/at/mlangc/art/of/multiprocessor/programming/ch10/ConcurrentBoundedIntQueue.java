@@ -0,0 +1,143 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import at.mlangc.art.of.multiprocessor.programming.ch7.Backoff;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class ConcurrentBoundedIntQueue implements IntQueue {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int LONGS_PER_CACHE_LINE = 8;
+    private static final int ENQ_POS = LONGS_PER_CACHE_LINE;
+    private static final int DEQ_POS = 2 * LONGS_PER_CACHE_LINE;
+    private static final int SPINS_BEFORE_YIELD = 100;
+
+    private final AtomicLongArray positions = new AtomicLongArray(3 * LONGS_PER_CACHE_LINE);
+    private final AtomicLongArray sequences;
+    private final int[] values;
+    private final int mask;
+    private final int width;
+    private final Supplier<? extends Backoff> backoffFactory;
+
+    public ConcurrentBoundedIntQueue(int capacity) {
+        this(capacity, 1);
+    }
+
+    public ConcurrentBoundedIntQueue(int capacity, int width) {
+        this(capacity, width, () -> Backoff.NONE);
+    }
+
+    public ConcurrentBoundedIntQueue(int capacity, int width, Supplier<? extends Backoff> backoffFactory) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity must be a power of 2, but got %s", capacity);
+        checkArgument(width > 0, "width must be positive, but got %s", width);
+
+        this.sequences = new AtomicLongArray(capacity * width);
+        this.values = new int[capacity * width];
+        this.mask = capacity - 1;
+        this.width = width;
+        this.backoffFactory = backoffFactory;
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.setPlain(i * width, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public void enq(int x) {
+        var spins = 0;
+        while (!tryEnq(x)) {
+            if (++spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                spins = 0;
+                Thread.yield();
+            }
+        }
+    }
+
+    @Override
+    public boolean tryEnq(int x) {
+        Backoff backoff = null;
+        var pos = positions.get(ENQ_POS);
+
+        while (true) {
+            var slot = slotOf(pos);
+            var diff = sequences.getAcquire(slot) - pos;
+
+            if (diff == 0) {
+                if (positions.weakCompareAndSetVolatile(ENQ_POS, pos, pos + 1)) {
+                    values[slot] = x;
+                    sequences.setRelease(slot, pos + 1);
+                    return true;
+                }
+
+                backoff = getOrCreateBackoff(backoff);
+                backoff.backoff();
+            } else if (diff < 0) {
+                return false;
+            }
+
+            pos = positions.get(ENQ_POS);
+        }
+    }
+
+    @Override
+    public int deq() {
+        var x = deqOrEmpty();
+        if (x == EMPTY) {
+            throw new NoSuchElementException();
+        }
+
+        return (int) x;
+    }
+
+    @Override
+    public Integer tryDeq() {
+        var x = deqOrEmpty();
+        return x == EMPTY ? null : (int) x;
+    }
+
+    private long deqOrEmpty() {
+        Backoff backoff = null;
+        var pos = positions.get(DEQ_POS);
+
+        while (true) {
+            var slot = slotOf(pos);
+            var diff = sequences.getAcquire(slot) - (pos + 1);
+
+            if (diff == 0) {
+                if (positions.weakCompareAndSetVolatile(DEQ_POS, pos, pos + 1)) {
+                    var x = values[slot];
+                    sequences.setRelease(slot, pos + capacity());
+                    return x;
+                }
+
+                backoff = getOrCreateBackoff(backoff);
+                backoff.backoff();
+            } else if (diff < 0) {
+                return EMPTY;
+            }
+
+            pos = positions.get(DEQ_POS);
+        }
+    }
+
+    private Backoff getOrCreateBackoff(Backoff backoff) {
+        if (backoff == null) {
+            backoff = backoffFactory.get();
+        }
+
+        return backoff;
+    }
+
+    private int slotOf(long pos) {
+        return ((int) pos & mask) * width;
+    }
+}
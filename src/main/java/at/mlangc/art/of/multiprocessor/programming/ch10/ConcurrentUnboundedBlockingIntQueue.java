@@ -0,0 +1,107 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import org.apache.commons.lang3.exception.UncheckedInterruptedException;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class ConcurrentUnboundedBlockingIntQueue extends ConcurrentUnboundedIntQueue implements BlockingIntQueue {
+    private static final int SPINS_BEFORE_PARK = 1_000;
+
+    private final ConcurrentLinkedQueue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private final int spinsBeforePark;
+
+    public ConcurrentUnboundedBlockingIntQueue() {
+        this(SPINS_BEFORE_PARK);
+    }
+
+    ConcurrentUnboundedBlockingIntQueue(int spinsBeforePark) {
+        checkArgument(spinsBeforePark >= 0);
+        this.spinsBeforePark = spinsBeforePark;
+    }
+
+    @Override
+    public void enq(int x) {
+        super.enq(x);
+        signalWaiters(1);
+    }
+
+    @Override
+    public void enqAll(int[] src, int off, int len) {
+        super.enqAll(src, off, len);
+        signalWaiters(len);
+    }
+
+    @Override
+    public int take() {
+        return (int) await(false, 0);
+    }
+
+    @Override
+    public long poll(long timeout, TimeUnit unit) {
+        var x = await(true, System.nanoTime() + unit.toNanos(timeout));
+        return x == EMPTY ? TIMED_OUT : x;
+    }
+
+    private long await(boolean timed, long deadlineNanos) {
+        var spins = 0;
+        while (true) {
+            var x = deqOrEmpty();
+            if (x != EMPTY) {
+                return x;
+            }
+
+            if (spins < spinsBeforePark) {
+                spins++;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            var remainingNanos = timed ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+            if (remainingNanos <= 0) {
+                return EMPTY;
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new UncheckedInterruptedException(new InterruptedException());
+            }
+
+            var me = Thread.currentThread();
+            waiters.add(me);
+
+            x = deqOrEmpty();
+            if (x == EMPTY) {
+                if (timed) {
+                    LockSupport.parkNanos(this, remainingNanos);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+
+            // If we are no longer registered, a producer spent its signal on us. Pass it on if we don't need it, since
+            // another waiter might have parked in the meantime, and would otherwise never wake up.
+            var signalled = !waiters.remove(me);
+            if (x != EMPTY) {
+                if (signalled) {
+                    signalWaiters(1);
+                }
+
+                return x;
+            }
+        }
+    }
+
+    private void signalWaiters(int n) {
+        for (int i = 0; i < n && !waiters.isEmpty(); i++) {
+            var waiter = waiters.poll();
+            if (waiter == null) {
+                break;
+            }
+
+            LockSupport.unpark(waiter);
+        }
+    }
+}
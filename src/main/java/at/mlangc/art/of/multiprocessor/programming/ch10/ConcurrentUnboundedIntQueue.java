@@ -1,9 +1,15 @@
 package at.mlangc.art.of.multiprocessor.programming.ch10;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.Backoff;
+
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class ConcurrentUnboundedIntQueue implements IntQueue {
+    static final long EMPTY = Long.MIN_VALUE;
+
     private static class Node {
         final int x;
         final AtomicReference<Node> next = new AtomicReference<>();
@@ -15,19 +21,53 @@ public class ConcurrentUnboundedIntQueue implements IntQueue {
 
     private final AtomicReference<Node> head = new AtomicReference<>(new Node(-1));
     private final AtomicReference<Node> tail = new AtomicReference<>(head.getPlain());
+    private final Supplier<? extends Backoff> backoffFactory;
+
+    public ConcurrentUnboundedIntQueue() {
+        this(() -> Backoff.NONE);
+    }
+
+    public ConcurrentUnboundedIntQueue(Supplier<? extends Backoff> backoffFactory) {
+        this.backoffFactory = backoffFactory;
+    }
 
     @Override
     public void enq(int x) {
         var node = new Node(x);
+        link(node, node);
+    }
+
+    @Override
+    public void enqAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len == 0) {
+            return;
+        }
+
+        var first = new Node(src[off]);
+        var last = first;
+        for (int i = off + 1; i < off + len; i++) {
+            var node = new Node(src[i]);
+            last.next.setPlain(node);
+            last = node;
+        }
+
+        link(first, last);
+    }
+
+    private void link(Node first, Node last) {
+        Backoff backoff = null;
 
         while (true) {
             var currentTail = tail.get();
-            var previousNext = currentTail.next.compareAndExchange(null, node);
+            var previousNext = currentTail.next.compareAndExchange(null, first);
 
             if (previousNext != null) {
                 tail.compareAndSet(currentTail, previousNext);
+                backoff = getOrCreateBackoff(backoff);
+                backoff.backoff();
             } else {
-                tail.compareAndSet(currentTail, node);
+                tail.compareAndSet(currentTail, last);
                 break;
             }
         }
@@ -35,17 +75,94 @@ public class ConcurrentUnboundedIntQueue implements IntQueue {
 
     @Override
     public int deq() {
+        var x = deqOrEmpty();
+        if (x == EMPTY) {
+            throw new NoSuchElementException();
+        }
+
+        return (int) x;
+    }
+
+    @Override
+    public Integer tryDeq() {
+        var x = deqOrEmpty();
+        return x == EMPTY ? null : (int) x;
+    }
+
+    long deqOrEmpty() {
+        Backoff backoff = null;
+
         while (true) {
             var currentHead = head.get();
+            var currentTail = tail.get();
             var currentNext = currentHead.next.get();
 
             if (currentNext == null) {
-                throw new NoSuchElementException();
+                return EMPTY;
             }
 
-            if (head.compareAndSet(currentHead, currentNext)) {
+            if (currentHead == currentTail) {
+                tail.compareAndSet(currentTail, currentNext);
+            } else if (head.compareAndSet(currentHead, currentNext)) {
                 return currentNext.x;
+            } else {
+                backoff = getOrCreateBackoff(backoff);
+                backoff.backoff();
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(int[] dst, int max) {
+        Objects.checkFromIndexSize(0, max, dst.length);
+        if (max == 0) {
+            return 0;
+        }
+
+        Backoff backoff = null;
+
+        while (true) {
+            var currentHead = head.get();
+            var currentTail = tail.get();
+            var newHead = currentHead;
+            var drained = 0;
+
+            Node next;
+            while (drained < max && (next = newHead.next.get()) != null) {
+                if (newHead == currentTail) {
+                    // Help the lagging tail in place, so that the head never overtakes it
+                    tail.compareAndSet(currentTail, next);
+                    currentTail = tail.get();
+                }
+
+                newHead = next;
+                drained++;
+            }
+
+            if (drained == 0) {
+                return 0;
+            }
+
+            if (head.compareAndSet(currentHead, newHead)) {
+                var node = currentHead;
+                for (int i = 0; i < drained; i++) {
+                    node = node.next.getPlain();
+                    dst[i] = node.x;
+                }
+
+                return drained;
             }
+
+            backoff = getOrCreateBackoff(backoff);
+            backoff.backoff();
+        }
+    }
+
+    private Backoff getOrCreateBackoff(Backoff backoff) {
+        if (backoff == null) {
+            backoff = backoffFactory.get();
         }
+
+        return backoff;
     }
 }
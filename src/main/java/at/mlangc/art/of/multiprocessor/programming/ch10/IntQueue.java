@@ -1,11 +1,17 @@
 package at.mlangc.art.of.multiprocessor.programming.ch10;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 public interface IntQueue {
     void enq(int x);
     int deq();
 
+    default boolean tryEnq(int x) {
+        enq(x);
+        return true;
+    }
+
     default Integer tryDeq() {
         try {
             return deq();
@@ -13,4 +19,28 @@ public interface IntQueue {
             return null;
         }
     }
+
+    default void enqAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+
+        for (int i = off; i < off + len; i++) {
+            enq(src[i]);
+        }
+    }
+
+    default int drainTo(int[] dst, int max) {
+        Objects.checkFromIndexSize(0, max, dst.length);
+
+        var drained = 0;
+        try {
+            while (drained < max) {
+                dst[drained] = deq();
+                drained++;
+            }
+        } catch (NoSuchElementException ignore) {
+            // Queue is empty for now
+        }
+
+        return drained;
+    }
 }
@@ -1,6 +1,7 @@
 package at.mlangc.art.of.multiprocessor.programming.ch10;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,6 +33,30 @@ public class LockBasedUnboundedIntQueue implements IntQueue {
         }
     }
 
+    @Override
+    public void enqAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len == 0) {
+            return;
+        }
+
+        var first = new Node(src[off]);
+        var last = first;
+        for (int i = off + 1; i < off + len; i++) {
+            var node = new Node(src[i]);
+            last.next = node;
+            last = node;
+        }
+
+        enqLock.lock();
+        try {
+            tail.next = first;
+            tail = last;
+        } finally {
+            enqLock.unlock();
+        }
+    }
+
     @Override
     public int deq() {
         deqLock.lock();
@@ -46,4 +71,22 @@ public class LockBasedUnboundedIntQueue implements IntQueue {
             deqLock.unlock();
         }
     }
+
+    @Override
+    public int drainTo(int[] dst, int max) {
+        Objects.checkFromIndexSize(0, max, dst.length);
+
+        deqLock.lock();
+        try {
+            var drained = 0;
+            while (drained < max && head.next != null) {
+                head = head.next;
+                dst[drained++] = head.x;
+            }
+
+            return drained;
+        } finally {
+            deqLock.unlock();
+        }
+    }
 }
@@ -1,10 +1,12 @@
 package at.mlangc.art.of.multiprocessor.programming.ch11;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.Backoff;
 import at.mlangc.art.of.multiprocessor.programming.ch7.ExponentialBackoff;
 
 import java.time.Duration;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class ConcurrentIntStack implements IntStack {
     private static final Duration INITIAL_BACKOFF = Duration.ofMillis(1);
@@ -20,11 +22,20 @@ public class ConcurrentIntStack implements IntStack {
     }
 
     private final AtomicReference<Node> head = new AtomicReference<>();
+    private final Supplier<? extends Backoff> backoffFactory;
+
+    public ConcurrentIntStack() {
+        this(() -> new ExponentialBackoff(INITIAL_BACKOFF, BACKOFF_CAP));
+    }
+
+    public ConcurrentIntStack(Supplier<? extends Backoff> backoffFactory) {
+        this.backoffFactory = backoffFactory;
+    }
 
     @Override
     public void push(int x) {
         var newHead = new Node(x);
-        ExponentialBackoff backoff = null;
+        Backoff backoff = null;
 
         while (true) {
             var oldHead = head.getAcquire();
@@ -41,7 +52,7 @@ public class ConcurrentIntStack implements IntStack {
 
     @Override
     public int pop() {
-        ExponentialBackoff backoff = null;
+        Backoff backoff = null;
         while (true) {
             var oldHead = head.get();
             if (oldHead == null) {
@@ -58,9 +69,9 @@ public class ConcurrentIntStack implements IntStack {
         }
     }
 
-    private static ExponentialBackoff getOrCreateBackoff(ExponentialBackoff backoff) {
+    private Backoff getOrCreateBackoff(Backoff backoff) {
         if (backoff == null) {
-            backoff = new ExponentialBackoff(INITIAL_BACKOFF, BACKOFF_CAP);
+            backoff = backoffFactory.get();
         }
 
         return backoff;
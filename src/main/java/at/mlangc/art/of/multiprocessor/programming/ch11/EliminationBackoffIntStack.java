@@ -0,0 +1,194 @@
+package at.mlangc.art.of.multiprocessor.programming.ch11;
+
+import at.mlangc.art.of.multiprocessor.programming.ch11.EliminationArrayIntExchanger.RangePolicy;
+import at.mlangc.art.of.multiprocessor.programming.ch11.IntExchanger.Exchanged;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+@ThreadSafe
+public class EliminationBackoffIntStack implements IntStack {
+    private static final float RANGE_FACTOR = 1.1f;
+    private static final float TIMEOUT_FACTOR = 1.5f;
+    private static final long MIN_TIMEOUT_NANOS = 100;
+    private static final long INITIAL_TIMEOUT_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_TIMEOUT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static class Node {
+        final int value;
+        Node next;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    private final EliminationArrayIntExchanger eliminationArray;
+    private final ThreadLocal<TimeoutPolicy> timeoutPolicy;
+
+    public EliminationBackoffIntStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                maxRange -> new RangePolicy.Adaptive(RANGE_FACTOR, maxRange),
+                () -> new TimeoutPolicy.Adaptive(TIMEOUT_FACTOR, MIN_TIMEOUT_NANOS, INITIAL_TIMEOUT_NANOS, MAX_TIMEOUT_NANOS));
+    }
+
+    public EliminationBackoffIntStack(int eliminationArraySize, RangePolicy.Factory rangePolicyFactory, TimeoutPolicy.Factory timeoutPolicyFactory) {
+        this.eliminationArray = new EliminationArrayIntExchanger(eliminationArraySize, LockFreeIntExchanger::new, rangePolicyFactory);
+        this.timeoutPolicy = ThreadLocal.withInitial(timeoutPolicyFactory::create);
+    }
+
+    @Override
+    public void push(int x) {
+        var newHead = new Node(x);
+        var localTimeoutPolicy = timeoutPolicy.get();
+        var timedOut = false;
+
+        while (true) {
+            var oldHead = head.getAcquire();
+            newHead.next = oldHead;
+
+            if (head.compareAndSet(oldHead, newHead)) {
+                if (timedOut) {
+                    localTimeoutPolicy.recordIdle();
+                }
+
+                return;
+            }
+
+            var res = eliminationArray.exchange(x, localTimeoutPolicy.getTimeoutNanos(), TimeUnit.NANOSECONDS);
+            if (res instanceof Exchanged(Integer exchanged) && exchanged == null) {
+                localTimeoutPolicy.recordSuccess();
+                return;
+            }
+
+            timedOut = recordCollisionOrTimeout(localTimeoutPolicy, timedOut, res);
+        }
+    }
+
+    @Override
+    public int pop() {
+        var localTimeoutPolicy = timeoutPolicy.get();
+        var timedOut = false;
+
+        while (true) {
+            var oldHead = head.getAcquire();
+            if (oldHead == null) {
+                throw new NoSuchElementException();
+            }
+
+            if (head.compareAndSet(oldHead, oldHead.next)) {
+                if (timedOut) {
+                    localTimeoutPolicy.recordIdle();
+                }
+
+                return oldHead.value;
+            }
+
+            var res = eliminationArray.exchange(null, localTimeoutPolicy.getTimeoutNanos(), TimeUnit.NANOSECONDS);
+            if (res instanceof Exchanged(Integer exchanged) && exchanged != null) {
+                localTimeoutPolicy.recordSuccess();
+                return exchanged;
+            }
+
+            timedOut = recordCollisionOrTimeout(localTimeoutPolicy, timedOut, res);
+        }
+    }
+
+    // Meeting an operation of the same kind is a collision. A timeout only counts as one if the head is still
+    // contended afterwards, and as idleness if the next CAS on the head succeeds.
+    private static boolean recordCollisionOrTimeout(TimeoutPolicy timeoutPolicy, boolean timedOutBefore, IntExchanger.Response res) {
+        if (timedOutBefore || res instanceof Exchanged) {
+            timeoutPolicy.recordCollision();
+        }
+
+        return !(res instanceof Exchanged);
+    }
+
+    @NotThreadSafe
+    public interface TimeoutPolicy {
+        void recordSuccess();
+        void recordCollision();
+        void recordIdle();
+        long getTimeoutNanos();
+
+        interface Factory {
+            TimeoutPolicy create();
+        }
+
+        class Constant implements TimeoutPolicy {
+            private final long timeoutNanos;
+
+            public Constant(long timeout, TimeUnit unit) {
+                this.timeoutNanos = unit.toNanos(timeout);
+            }
+
+            @Override
+            public void recordSuccess() {
+
+            }
+
+            @Override
+            public void recordCollision() {
+
+            }
+
+            @Override
+            public void recordIdle() {
+
+            }
+
+            @Override
+            public long getTimeoutNanos() {
+                return timeoutNanos;
+            }
+        }
+
+        class Adaptive implements TimeoutPolicy {
+            private final float factor;
+            private final long minNanos;
+            private final long maxNanos;
+            private long timeoutNanos;
+
+            public Adaptive(float factor, long minNanos, long initialNanos, long maxNanos) {
+                checkArgument(factor >= 1);
+                checkArgument(0 < minNanos && minNanos <= initialNanos && initialNanos <= maxNanos);
+
+                this.factor = factor;
+                this.minNanos = minNanos;
+                this.maxNanos = maxNanos;
+                this.timeoutNanos = initialNanos;
+            }
+
+            @Override
+            public void recordSuccess() {
+                grow();
+            }
+
+            // Waiting longer is what gives a colliding thread of the opposite kind a chance to show up
+            @Override
+            public void recordCollision() {
+                grow();
+            }
+
+            @Override
+            public void recordIdle() {
+                timeoutNanos = Math.max(minNanos, (long) (timeoutNanos / factor));
+            }
+
+            private void grow() {
+                timeoutNanos = Math.min(maxNanos, (long) Math.ceil(timeoutNanos * factor));
+            }
+
+            @Override
+            public long getTimeoutNanos() {
+                return timeoutNanos;
+            }
+        }
+    }
+}
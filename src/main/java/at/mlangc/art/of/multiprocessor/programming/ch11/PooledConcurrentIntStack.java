@@ -0,0 +1,94 @@
+package at.mlangc.art.of.multiprocessor.programming.ch11;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class PooledConcurrentIntStack implements IntStack {
+    private static final int NIL = -1;
+
+    private final int[] values;
+    private final int[] next;
+    private final AtomicLong head = new AtomicLong(pack(0, NIL));
+    private final AtomicLong free;
+
+    public PooledConcurrentIntStack(int capacity) {
+        checkArgument(capacity > 0);
+
+        this.values = new int[capacity];
+        this.next = new int[capacity];
+
+        for (int i = 0; i < capacity - 1; i++) {
+            next[i] = i + 1;
+        }
+
+        next[capacity - 1] = NIL;
+        this.free = new AtomicLong(pack(0, 0));
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    @Override
+    public void push(int x) {
+        var node = popIndex(free);
+        if (node == NIL) {
+            throw new IllegalStateException("Stack is full");
+        }
+
+        values[node] = x;
+        pushIndex(head, node);
+    }
+
+    @Override
+    public int pop() {
+        var node = popIndex(head);
+        if (node == NIL) {
+            throw new NoSuchElementException();
+        }
+
+        var x = values[node];
+        pushIndex(free, node);
+        return x;
+    }
+
+    private void pushIndex(AtomicLong top, int node) {
+        while (true) {
+            var oldTop = top.get();
+            next[node] = indexOf(oldTop);
+
+            if (top.compareAndSet(oldTop, pack(versionOf(oldTop) + 1, node))) {
+                return;
+            }
+        }
+    }
+
+    private int popIndex(AtomicLong top) {
+        while (true) {
+            var oldTop = top.get();
+            var node = indexOf(oldTop);
+
+            if (node == NIL) {
+                return NIL;
+            }
+
+            if (top.compareAndSet(oldTop, pack(versionOf(oldTop) + 1, next[node]))) {
+                return node;
+            }
+        }
+    }
+
+    private static long pack(int version, int index) {
+        return ((long) version << 32) | (index & 0xFFFF_FFFFL);
+    }
+
+    private static int versionOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int indexOf(long packed) {
+        return (int) packed;
+    }
+}
@@ -0,0 +1,10 @@
+package at.mlangc.art.of.multiprocessor.programming.ch7;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+@NotThreadSafe
+public interface Backoff {
+    Backoff NONE = () -> { };
+
+    void backoff();
+}
@@ -6,7 +6,7 @@ import org.apache.commons.lang3.exception.UncheckedInterruptedException;
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
 
-public class ExponentialBackoff {
+public class ExponentialBackoff implements Backoff {
     private final long capNanos;
     private long currentNanos;
 
@@ -18,6 +18,7 @@ public class ExponentialBackoff {
         this.capNanos = cap.toNanos();
     }
 
+    @Override
     public void backoff() {
         var random = ThreadLocalRandom.current();
         var sleepNanos = Math.min(capNanos, random.nextLong(currentNanos / 2, currentNanos + currentNanos / 2));
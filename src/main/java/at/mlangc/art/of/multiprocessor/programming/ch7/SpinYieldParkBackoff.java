@@ -0,0 +1,64 @@
+package at.mlangc.art.of.multiprocessor.programming.ch7;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+public class SpinYieldParkBackoff implements Backoff {
+    private final int maxSpins;
+    private final int maxYields;
+    private final long capNanos;
+
+    private int currentSpins = 1;
+    private int yields;
+    private long currentNanos;
+
+    public SpinYieldParkBackoff() {
+        this(1024, 4, Duration.ofNanos(1_000), Duration.ofNanos(100_000));
+    }
+
+    public SpinYieldParkBackoff(int maxSpins, int maxYields, Duration initialPark, Duration parkCap) {
+        Preconditions.checkArgument(0 <= maxSpins && maxSpins <= 1 << 30);
+        Preconditions.checkArgument(maxYields >= 0);
+        Preconditions.checkArgument(initialPark.isPositive());
+        Preconditions.checkArgument(initialPark.compareTo(parkCap) <= 0);
+
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.currentNanos = initialPark.toNanos();
+        this.capNanos = parkCap.toNanos();
+    }
+
+    @Override
+    public void backoff() {
+        backoff(Long.MAX_VALUE);
+    }
+
+    // Like backoff, but never parks for longer than maxParkNanos, for callers that have a deadline
+    public void backoff(long maxParkNanos) {
+        var random = ThreadLocalRandom.current();
+
+        if (currentSpins <= maxSpins) {
+            var spins = random.nextInt(currentSpins / 2, currentSpins + 1);
+            for (int i = 0; i < spins; i++) {
+                Thread.onSpinWait();
+            }
+
+            currentSpins = nextSpins(currentSpins, maxSpins);
+        } else if (yields < maxYields) {
+            yields++;
+            Thread.yield();
+        } else {
+            var parkNanos = Math.min(capNanos, random.nextLong(currentNanos / 2, currentNanos + currentNanos / 2 + 1));
+            LockSupport.parkNanos(this, Math.min(parkNanos, maxParkNanos));
+            currentNanos = Math.min(currentNanos * 2, capNanos);
+        }
+    }
+
+    // Doubles the spins, but stops right after maxSpins, so that we never overflow
+    static int nextSpins(int currentSpins, int maxSpins) {
+        return currentSpins > maxSpins / 2 ? maxSpins + 1 : currentSpins * 2;
+    }
+}
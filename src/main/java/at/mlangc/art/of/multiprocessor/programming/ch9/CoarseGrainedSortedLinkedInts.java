@@ -0,0 +1,78 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class CoarseGrainedSortedLinkedInts implements SortedLinkedInts {
+    private static class Node {
+        final int x;
+        Node next;
+
+        Node(int x, Node next) {
+            this.x = x;
+            this.next = next;
+        }
+    }
+
+    private final Lock lock = new ReentrantLock();
+    private final Node head = new Node(0, null);
+
+    @Override
+    public boolean add(int x) {
+        lock.lock();
+        try {
+            var pred = head;
+            var current = pred.next;
+            while (current != null && current.x < x) {
+                pred = current;
+                current = current.next;
+            }
+
+            if (current != null && current.x == x) {
+                return false;
+            }
+
+            pred.next = new Node(x, current);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(int x) {
+        lock.lock();
+        try {
+            var pred = head;
+            var current = pred.next;
+            while (current != null && current.x < x) {
+                pred = current;
+                current = current.next;
+            }
+
+            if (current == null || current.x != x) {
+                return false;
+            }
+
+            pred.next = current.next;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(int x) {
+        lock.lock();
+        try {
+            var current = head.next;
+            while (current != null && current.x < x) {
+                current = current.next;
+            }
+
+            return current != null && current.x == x;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+class ConcurrentSkipListInts implements SortedLinkedInts {
+    private static final int MAX_LEVEL = 24;
+
+    private static class Node {
+        final int x;
+        final int topLevel;
+        final AtomicMarkableReference<Node>[] next;
+
+        @SuppressWarnings("unchecked")
+        Node(int x, int topLevel) {
+            this.x = x;
+            this.topLevel = topLevel;
+            this.next = new AtomicMarkableReference[topLevel + 1];
+
+            for (int level = 0; level <= topLevel; level++) {
+                next[level] = new AtomicMarkableReference<>(null, false);
+            }
+        }
+    }
+
+    private final Node head = new Node(0, MAX_LEVEL - 1);
+
+    @Override
+    public boolean add(int x) {
+        var topLevel = randomLevel();
+        var preds = new Node[MAX_LEVEL];
+        var succs = new Node[MAX_LEVEL];
+        var markHolder = new boolean[1];
+
+        while (true) {
+            if (find(x, preds, succs, markHolder)) {
+                return false;
+            }
+
+            var newNode = new Node(x, topLevel);
+            for (int level = 0; level <= topLevel; level++) {
+                newNode.next[level].set(succs[level], false);
+            }
+
+            if (!preds[0].next[0].compareAndSet(succs[0], newNode, false, false)) {
+                continue;
+            }
+
+            for (int level = 1; level <= topLevel; level++) {
+                while (true) {
+                    var pred = preds[level];
+                    var succ = succs[level];
+
+                    var currentSucc = newNode.next[level].get(markHolder);
+                    if (markHolder[0]) {
+                        return true;
+                    }
+
+                    if (currentSucc != succ && !newNode.next[level].compareAndSet(currentSucc, succ, false, false)) {
+                        continue;
+                    }
+
+                    if (pred.next[level].compareAndSet(succ, newNode, false, false)) {
+                        break;
+                    }
+
+                    find(x, preds, succs, markHolder);
+                }
+            }
+
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(int x) {
+        var preds = new Node[MAX_LEVEL];
+        var succs = new Node[MAX_LEVEL];
+        var markHolder = new boolean[1];
+
+        if (!find(x, preds, succs, markHolder)) {
+            return false;
+        }
+
+        var nodeToRemove = succs[0];
+        for (int level = nodeToRemove.topLevel; level >= 1; level--) {
+            var succ = nodeToRemove.next[level].get(markHolder);
+            while (!markHolder[0]) {
+                nodeToRemove.next[level].compareAndSet(succ, succ, false, true);
+                succ = nodeToRemove.next[level].get(markHolder);
+            }
+        }
+
+        var succ = nodeToRemove.next[0].get(markHolder);
+        while (true) {
+            var iMarkedIt = nodeToRemove.next[0].compareAndSet(succ, succ, false, true);
+            succ = nodeToRemove.next[0].get(markHolder);
+
+            if (iMarkedIt) {
+                find(x, preds, succs, markHolder);
+                return true;
+            } else if (markHolder[0]) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(int x) {
+        var markHolder = new boolean[1];
+        var pred = head;
+        Node current = null;
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            current = pred.next[level].getReference();
+
+            while (current != null) {
+                var next = current.next[level].get(markHolder);
+                if (markHolder[0]) {
+                    current = next;
+                } else if (current.x < x) {
+                    pred = current;
+                    current = next;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        return current != null && current.x == x;
+    }
+
+    private boolean find(int x, Node[] preds, Node[] succs, boolean[] markHolder) {
+        retry: while (true) {
+            var pred = head;
+            Node current = null;
+
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                current = pred.next[level].getReference();
+
+                while (current != null) {
+                    var next = current.next[level].get(markHolder);
+                    if (markHolder[0]) {
+                        if (!pred.next[level].compareAndSet(current, next, false, false)) {
+                            continue retry;
+                        }
+
+                        current = next;
+                    } else if (current.x < x) {
+                        pred = current;
+                        current = next;
+                    } else {
+                        break;
+                    }
+                }
+
+                preds[level] = pred;
+                succs[level] = current;
+            }
+
+            return current != null && current.x == x;
+        }
+    }
+
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+}
@@ -1,8 +1,11 @@
 package at.mlangc.art.of.multiprocessor.programming.ch9;
 
 import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.IntConsumer;
 
-class ConcurrentSortedLinkedInts implements SortedLinkedInts {
+import static com.google.common.base.Preconditions.checkArgument;
+
+class ConcurrentSortedLinkedInts implements NavigableSortedLinkedInts {
     private static class Node {
         final int x;
         final AtomicMarkableReference<Node> next;
@@ -38,11 +41,15 @@ class ConcurrentSortedLinkedInts implements SortedLinkedInts {
     private record Window(Node last, Node current) { }
 
     private Window findAndRemoveMarked(int x, boolean[] markHolder) {
+        return findAndRemoveMarked(head, x, markHolder);
+    }
+
+    private Window findAndRemoveMarked(Node start, int x, boolean[] markHolder) {
         Node last;
         Node current;
 
         outer: while (true) {
-            last = head;
+            last = start;
             current = last.next.getReference();
 
             while (current != null) {
@@ -58,6 +65,7 @@ class ConcurrentSortedLinkedInts implements SortedLinkedInts {
                     if (last.next.compareAndSet(current, next, false, false)) {
                         current = next;
                     } else {
+                        start = head;
                         continue outer;
                     }
                 }
@@ -105,4 +113,129 @@ class ConcurrentSortedLinkedInts implements SortedLinkedInts {
             current = next;
         }
     }
+
+    @Override
+    public void forEachInRange(int fromInclusive, int toExclusive, IntConsumer consumer) {
+        var markHolder = new boolean[1];
+        var current = head.next.getReference();
+
+        while (current != null && current.x < toExclusive) {
+            var next = current.next.get(markHolder);
+            if (!markHolder[0] && current.x >= fromInclusive) {
+                consumer.accept(current.x);
+            }
+
+            current = next;
+        }
+    }
+
+    @Override
+    public int size() {
+        var markHolder = new boolean[1];
+        var current = head.next.getReference();
+        var size = 0;
+
+        while (current != null) {
+            var next = current.next.get(markHolder);
+            if (!markHolder[0]) {
+                size++;
+            }
+
+            current = next;
+        }
+
+        return size;
+    }
+
+    @Override
+    public Integer ceiling(int x) {
+        var markHolder = new boolean[1];
+        var current = head.next.getReference();
+
+        while (current != null) {
+            var next = current.next.get(markHolder);
+            if (!markHolder[0] && current.x >= x) {
+                return current.x;
+            }
+
+            current = next;
+        }
+
+        return null;
+    }
+
+    @Override
+    public Integer floor(int x) {
+        var markHolder = new boolean[1];
+        var current = head.next.getReference();
+        Integer floor = null;
+
+        while (current != null && current.x <= x) {
+            var next = current.next.get(markHolder);
+            if (!markHolder[0]) {
+                floor = current.x;
+            }
+
+            current = next;
+        }
+
+        return floor;
+    }
+
+    @Override
+    public int addAll(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            checkArgument(sorted[i - 1] <= sorted[i], "input must be sorted, but got %s > %s at %s", sorted[i - 1], sorted[i], i);
+        }
+
+        var markHolder = new boolean[1];
+        var start = head;
+        var added = 0;
+        var i = 0;
+
+        while (i < sorted.length) {
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                i++;
+                continue;
+            }
+
+            var window = findAndRemoveMarked(start, sorted[i], markHolder);
+            if (window.current != null && window.current.x == sorted[i]) {
+                start = window.current;
+                i++;
+                continue;
+            }
+
+            var end = i + 1;
+            while (end < sorted.length && (window.current == null || sorted[end] < window.current.x)) {
+                end++;
+            }
+
+            var first = window.current;
+            Node last = null;
+            var runLength = 0;
+            for (int j = end - 1; j >= i; j--) {
+                if (j > i && sorted[j] == sorted[j - 1]) {
+                    continue;
+                }
+
+                first = new Node(sorted[j], first);
+                runLength++;
+
+                if (last == null) {
+                    last = first;
+                }
+            }
+
+            if (window.last.next.compareAndSet(window.current, first, false, false)) {
+                added += runLength;
+                start = last;
+                i = end;
+            } else if (window.last.next.isMarked()) {
+                start = head;
+            }
+        }
+
+        return added;
+    }
 }
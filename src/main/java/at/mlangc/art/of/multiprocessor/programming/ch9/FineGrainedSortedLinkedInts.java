@@ -0,0 +1,121 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class FineGrainedSortedLinkedInts implements SortedLinkedInts {
+    private static class Node {
+        final int x;
+        final Lock lock = new ReentrantLock();
+        Node next;
+
+        Node(int x, Node next) {
+            this.x = x;
+            this.next = next;
+        }
+
+        void lock() {
+            lock.lock();
+        }
+
+        void unlock() {
+            lock.unlock();
+        }
+    }
+
+    private final Node head = new Node(0, null);
+
+    @Override
+    public boolean add(int x) {
+        var pred = head;
+        pred.lock();
+        try {
+            var current = pred.next;
+            lockIfNotNull(current);
+            try {
+                while (current != null && current.x < x) {
+                    pred.unlock();
+                    pred = current;
+                    current = current.next;
+                    lockIfNotNull(current);
+                }
+
+                if (current != null && current.x == x) {
+                    return false;
+                }
+
+                pred.next = new Node(x, current);
+                return true;
+            } finally {
+                unlockIfNotNull(current);
+            }
+        } finally {
+            pred.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(int x) {
+        var pred = head;
+        pred.lock();
+        try {
+            var current = pred.next;
+            lockIfNotNull(current);
+            try {
+                while (current != null && current.x < x) {
+                    pred.unlock();
+                    pred = current;
+                    current = current.next;
+                    lockIfNotNull(current);
+                }
+
+                if (current == null || current.x != x) {
+                    return false;
+                }
+
+                pred.next = current.next;
+                return true;
+            } finally {
+                unlockIfNotNull(current);
+            }
+        } finally {
+            pred.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(int x) {
+        var pred = head;
+        pred.lock();
+        try {
+            var current = pred.next;
+            lockIfNotNull(current);
+            try {
+                while (current != null && current.x < x) {
+                    pred.unlock();
+                    pred = current;
+                    current = current.next;
+                    lockIfNotNull(current);
+                }
+
+                return current != null && current.x == x;
+            } finally {
+                unlockIfNotNull(current);
+            }
+        } finally {
+            pred.unlock();
+        }
+    }
+
+    private static void lockIfNotNull(Node node) {
+        if (node != null) {
+            node.lock();
+        }
+    }
+
+    private static void unlockIfNotNull(Node node) {
+        if (node != null) {
+            node.unlock();
+        }
+    }
+}
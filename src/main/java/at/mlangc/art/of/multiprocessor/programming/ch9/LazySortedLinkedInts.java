@@ -0,0 +1,102 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class LazySortedLinkedInts implements SortedLinkedInts {
+    private static class Node {
+        final int x;
+        final Lock lock = new ReentrantLock();
+        volatile Node next;
+        volatile boolean marked;
+
+        Node(int x, Node next) {
+            this.x = x;
+            this.next = next;
+        }
+    }
+
+    private final Node head = new Node(0, null);
+
+    @Override
+    public boolean add(int x) {
+        while (true) {
+            var pred = head;
+            var current = pred.next;
+            while (current != null && current.x < x) {
+                pred = current;
+                current = current.next;
+            }
+
+            lock(pred, current);
+            try {
+                if (validate(pred, current)) {
+                    if (current != null && current.x == x) {
+                        return false;
+                    }
+
+                    pred.next = new Node(x, current);
+                    return true;
+                }
+            } finally {
+                unlock(pred, current);
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(int x) {
+        while (true) {
+            var pred = head;
+            var current = pred.next;
+            while (current != null && current.x < x) {
+                pred = current;
+                current = current.next;
+            }
+
+            lock(pred, current);
+            try {
+                if (validate(pred, current)) {
+                    if (current == null || current.x != x) {
+                        return false;
+                    }
+
+                    current.marked = true;
+                    pred.next = current.next;
+                    return true;
+                }
+            } finally {
+                unlock(pred, current);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(int x) {
+        var current = head.next;
+        while (current != null && current.x < x) {
+            current = current.next;
+        }
+
+        return current != null && current.x == x && !current.marked;
+    }
+
+    private static boolean validate(Node pred, Node current) {
+        return !pred.marked && (current == null || !current.marked) && pred.next == current;
+    }
+
+    private static void lock(Node pred, Node current) {
+        pred.lock.lock();
+        if (current != null) {
+            current.lock.lock();
+        }
+    }
+
+    private static void unlock(Node pred, Node current) {
+        if (current != null) {
+            current.lock.unlock();
+        }
+
+        pred.lock.unlock();
+    }
+}
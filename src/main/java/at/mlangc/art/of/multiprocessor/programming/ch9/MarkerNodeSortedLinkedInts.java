@@ -0,0 +1,156 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+class MarkerNodeSortedLinkedInts implements SortedLinkedInts {
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static class Node {
+        final int x;
+        final boolean marker;
+        volatile Node next;
+
+        Node(int x, Node next) {
+            this(x, false, next);
+        }
+
+        private Node(int x, boolean marker, Node next) {
+            this.x = x;
+            this.marker = marker;
+            this.next = next;
+        }
+
+        static Node newMarker(Node next) {
+            return new Node(0, true, next);
+        }
+
+        boolean isDeleted() {
+            var next = this.next;
+            return next != null && next.marker;
+        }
+
+        boolean casNext(Node expected, Node newNext) {
+            return NEXT.compareAndSet(this, expected, newNext);
+        }
+    }
+
+    private final Node head = new Node(0, null);
+
+    @Override
+    public boolean add(int x) {
+        while (true) {
+            var pred = findPredecessor(x);
+            var current = pred.next;
+
+            if (current != null) {
+                if (current.marker || current.x < x) {
+                    continue;
+                }
+
+                if (current.x == x) {
+                    var next = current.next;
+                    if (next == null || !next.marker) {
+                        return false;
+                    }
+
+                    pred.casNext(current, next.next);
+                    continue;
+                }
+            }
+
+            if (pred.casNext(current, new Node(x, current))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(int x) {
+        Node marker = null;
+
+        while (true) {
+            var pred = findPredecessor(x);
+            var current = pred.next;
+
+            if (current == null) {
+                return false;
+            } else if (current.marker || current.x < x) {
+                continue;
+            } else if (current.x > x) {
+                return false;
+            }
+
+            var next = current.next;
+            if (next != null && next.marker) {
+                pred.casNext(current, next.next);
+                continue;
+            }
+
+            if (marker == null) {
+                marker = Node.newMarker(next);
+            } else {
+                marker.next = next;
+            }
+
+            if (current.casNext(next, marker)) {
+                pred.casNext(current, next);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(int x) {
+        for (var current = head.next; current != null; current = current.next) {
+            if (current.marker) {
+                continue;
+            }
+
+            if (current.x == x) {
+                return !current.isDeleted();
+            } else if (current.x > x) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    private Node findPredecessor(int x) {
+        outer: while (true) {
+            var pred = head;
+            var current = pred.next;
+
+            while (current != null) {
+                if (current.marker) {
+                    continue outer;
+                }
+
+                var next = current.next;
+                if (next != null && next.marker) {
+                    if (!pred.casNext(current, next.next)) {
+                        continue outer;
+                    }
+
+                    current = next.next;
+                } else if (current.x < x) {
+                    pred = current;
+                    current = next;
+                } else {
+                    break;
+                }
+            }
+
+            return pred;
+        }
+    }
+}
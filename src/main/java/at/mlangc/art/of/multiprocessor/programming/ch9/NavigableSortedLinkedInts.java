@@ -0,0 +1,11 @@
+package at.mlangc.art.of.multiprocessor.programming.ch9;
+
+import java.util.function.IntConsumer;
+
+interface NavigableSortedLinkedInts extends SortedLinkedInts {
+    void forEachInRange(int fromInclusive, int toExclusive, IntConsumer consumer);
+    int size();
+    Integer ceiling(int x);
+    Integer floor(int x);
+    int addAll(int[] sorted);
+}
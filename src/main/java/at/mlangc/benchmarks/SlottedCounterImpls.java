@@ -1,19 +1,53 @@
 package at.mlangc.benchmarks;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 class SlottedCounterImpls {
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long[] NO_SCRATCH = {};
+
     interface SlottedCounter {
         void increment();
 
         long[] counts();
 
+        long sumThenReset();
+
         default long sum() {
-            return Arrays.stream(counts()).sum();
+            return sumInto(NO_SCRATCH);
+        }
+
+        // Each element of a snapshot is the count of one slot, in slot order. The counts are read one by one while
+        // other threads might still increment them, so a snapshot is not a consistent view across slots.
+        default long[] snapshot() {
+            var snapshot = new long[counts().length];
+            sumInto(snapshot);
+            return snapshot;
+        }
+
+        // Copies as many elements of the snapshot as fit into scratch and returns the sum over all slots
+        default long sumInto(long[] scratch) {
+            var counts = counts();
+            var sum = 0L;
+
+            for (int i = 0; i < counts.length; i++) {
+                var count = (long) LONGS.getOpaque(counts, i);
+                if (i < scratch.length) {
+                    scratch[i] = count;
+                }
+
+                sum += count;
+            }
+
+            return sum;
         }
     }
 
@@ -57,6 +91,39 @@ class SlottedCounterImpls {
             lock.unlock();
         }
 
+        @Override
+        public long sumThenReset() {
+            var sum = 0L;
+            for (int i = 0; i < slots.length; i++) {
+                while (!tryClaim(i)) {
+                    Thread.onSpinWait();
+                }
+
+                sum += counts[i];
+                counts[i] = 0;
+
+                lock.lock();
+                slots[i] = false;
+                lock.unlock();
+            }
+
+            return sum;
+        }
+
+        private boolean tryClaim(int i) {
+            lock.lock();
+            try {
+                if (slots[i]) {
+                    return false;
+                }
+
+                slots[i] = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
         @Override
         public long[] counts() {
             return counts;
@@ -99,7 +166,43 @@ class SlottedCounterImpls {
             }
 
             counts[i]++;
+            release(i);
+        }
+
+        @Override
+        public long sumThenReset() {
+            var sum = 0L;
+            for (int i = 0; i < slots.length; i++) {
+                while (!tryClaim(i)) {
+                    Thread.onSpinWait();
+                }
+
+                sum += counts[i];
+                counts[i] = 0;
+                release(i);
+            }
+
+            return sum;
+        }
+
+        private boolean tryClaim(int i) {
+            if (!guard.weakCompareAndSetAcquire(false, true)) {
+                return false;
+            }
+
+            try {
+                if (slots[i]) {
+                    return false;
+                }
 
+                slots[i] = true;
+                return true;
+            } finally {
+                guard.setRelease(false);
+            }
+        }
+
+        private void release(int i) {
             while (true) {
                 if (guard.weakCompareAndSetAcquire(false, true)) {
                     slots[i] = false;
@@ -118,6 +221,10 @@ class SlottedCounterImpls {
     }
 
     static class SlottedCounterUsingAtomicArray implements SlottedCounter {
+        enum Mode {
+            LINEAR_SCAN, THREAD_AFFINE
+        }
+
         private enum State {
             USED
         }
@@ -125,11 +232,26 @@ class SlottedCounterImpls {
         private final long[] counts;
         private final AtomicReferenceArray<State> states;
         private final int width;
+        private final Mode mode;
+        private final ThreadLocal<int[]> lastSlot;
 
         SlottedCounterUsingAtomicArray(int numSlots, int width) {
+            this(numSlots, width, Mode.LINEAR_SCAN);
+        }
+
+        SlottedCounterUsingAtomicArray(int numSlots, int width, Mode mode) {
             this.states = new AtomicReferenceArray<>(numSlots * width);
-            this.counts = new long[numSlots * width];
             this.width = width;
+            this.mode = mode;
+
+            if (mode == Mode.THREAD_AFFINE) {
+                // The last element is reserved for increments that could not claim any slot
+                this.counts = new long[numSlots * width + 1];
+                this.lastSlot = ThreadLocal.withInitial(() -> new int[] { randomSlot() });
+            } else {
+                this.counts = new long[numSlots * width];
+                this.lastSlot = null;
+            }
         }
 
         @Override
@@ -137,8 +259,49 @@ class SlottedCounterImpls {
             return counts;
         }
 
+        // Only every width-th element of counts is used, and in THREAD_AFFINE mode, the overflow cell is reported
+        // as an additional last element after the slots
+        @Override
+        public long[] snapshot() {
+            var numSlots = states.length() / width;
+            var snapshot = new long[mode == Mode.THREAD_AFFINE ? numSlots + 1 : numSlots];
+            sumInto(snapshot);
+            return snapshot;
+        }
+
+        @Override
+        public long sumInto(long[] scratch) {
+            var numSlots = states.length() / width;
+            var sum = 0L;
+
+            for (int slot = 0; slot < numSlots; slot++) {
+                var count = (long) LONGS.getOpaque(counts, slot * width);
+                if (slot < scratch.length) {
+                    scratch[slot] = count;
+                }
+
+                sum += count;
+            }
+
+            if (mode == Mode.THREAD_AFFINE) {
+                var overflow = (long) LONGS.getOpaque(counts, counts.length - 1);
+                if (numSlots < scratch.length) {
+                    scratch[numSlots] = overflow;
+                }
+
+                sum += overflow;
+            }
+
+            return sum;
+        }
+
         @Override
         public void increment() {
+            if (mode == Mode.THREAD_AFFINE) {
+                incrementThreadAffine();
+                return;
+            }
+
             int slot;
             while (true) {
                 for (slot = 0; slot < states.length(); slot += width) {
@@ -157,5 +320,191 @@ class SlottedCounterImpls {
             counts[slot]++;
             states.setRelease(slot, null);
         }
+
+        @Override
+        public long sumThenReset() {
+            var sum = 0L;
+            for (int slot = 0; slot < states.length(); slot += width) {
+                while (!states.weakCompareAndSetAcquire(slot, null, State.USED)) {
+                    Thread.onSpinWait();
+                }
+
+                sum += counts[slot];
+                counts[slot] = 0;
+                states.setRelease(slot, null);
+            }
+
+            if (mode == Mode.THREAD_AFFINE) {
+                sum += (long) LONGS.getAndSet(counts, counts.length - 1, 0L);
+            }
+
+            return sum;
+        }
+
+        private void incrementThreadAffine() {
+            var lastSlot = this.lastSlot.get();
+            var slot = lastSlot[0];
+
+            if (states.compareAndExchangeAcquire(slot, null, State.USED) != null) {
+                slot = claimRandomSlot();
+                if (slot < 0) {
+                    LONGS.getAndAdd(counts, counts.length - 1, 1L);
+                    return;
+                }
+
+                lastSlot[0] = slot;
+            }
+
+            counts[slot]++;
+            states.setRelease(slot, null);
+        }
+
+        private int claimRandomSlot() {
+            var numSlots = states.length() / width;
+            var start = ThreadLocalRandom.current().nextInt(numSlots);
+
+            for (int i = 0; i < numSlots; i++) {
+                var slot = ((start + i) % numSlots) * width;
+                if (states.compareAndExchangeAcquire(slot, null, State.USED) == null) {
+                    return slot;
+                }
+            }
+
+            return -1;
+        }
+
+        private int randomSlot() {
+            return ThreadLocalRandom.current().nextInt(states.length() / width) * width;
+        }
+    }
+
+    static class SlottedCounterUsingStripedCells implements SlottedCounter {
+        private static final int LONGS_PER_CACHE_LINE = 8;
+        private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] { ThreadLocalRandom.current().nextInt() | 1 });
+
+        private static class Cell {
+            final AtomicLongArray padded = new AtomicLongArray(2 * LONGS_PER_CACHE_LINE);
+
+            boolean tryIncrement() {
+                var count = padded.get(LONGS_PER_CACHE_LINE);
+                return padded.compareAndSet(LONGS_PER_CACHE_LINE, count, count + 1);
+            }
+
+            long get() {
+                return padded.get(LONGS_PER_CACHE_LINE);
+            }
+
+            long getAndReset() {
+                return padded.getAndSet(LONGS_PER_CACHE_LINE, 0);
+            }
+        }
+
+        private final int maxCells;
+        private final AtomicBoolean resizing = new AtomicBoolean();
+        private volatile Cell[] cells = { new Cell() };
+
+        SlottedCounterUsingStripedCells(int numSlots) {
+            this(numSlots, Runtime.getRuntime().availableProcessors());
+        }
+
+        SlottedCounterUsingStripedCells(int numSlots, int numCores) {
+            this.maxCells = Integer.highestOneBit(Math.max(1, Math.min(numSlots, numCores)));
+        }
+
+        @Override
+        public void increment() {
+            var probe = PROBE.get();
+            var h = probe[0];
+            var cells = this.cells;
+
+            if (cells[h & (cells.length - 1)].tryIncrement()) {
+                return;
+            }
+
+            var collided = false;
+            while (true) {
+                h = rehash(h);
+                cells = this.cells;
+
+                if (cells[h & (cells.length - 1)].tryIncrement()) {
+                    break;
+                }
+
+                if (!collided || cells.length >= maxCells) {
+                    collided = true;
+                } else if (resizing.compareAndSet(false, true)) {
+                    try {
+                        if (this.cells == cells) {
+                            this.cells = grow(cells);
+                        }
+                    } finally {
+                        resizing.set(false);
+                    }
+
+                    collided = false;
+                }
+            }
+
+            probe[0] = h;
+        }
+
+        @Override
+        public long[] counts() {
+            var cells = this.cells;
+            var counts = new long[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                counts[i] = cells[i].get();
+            }
+
+            return counts;
+        }
+
+        @Override
+        public long[] snapshot() {
+            return counts();
+        }
+
+        @Override
+        public long sumInto(long[] scratch) {
+            var cells = this.cells;
+            var sum = 0L;
+
+            for (int i = 0; i < cells.length; i++) {
+                var count = cells[i].get();
+                if (i < scratch.length) {
+                    scratch[i] = count;
+                }
+
+                sum += count;
+            }
+
+            return sum;
+        }
+
+        @Override
+        public long sumThenReset() {
+            var sum = 0L;
+            for (var cell : cells) {
+                sum += cell.getAndReset();
+            }
+
+            return sum;
+        }
+
+        private static Cell[] grow(Cell[] cells) {
+            var grown = Arrays.copyOf(cells, 2 * cells.length);
+            for (int i = cells.length; i < grown.length; i++) {
+                grown[i] = new Cell();
+            }
+
+            return grown;
+        }
+
+        private static int rehash(int h) {
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+            return h;
+        }
     }
 }
@@ -0,0 +1,36 @@
+package at.mlangc.benchmarks;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+
+class SlottedCounterMeterBinder implements MeterBinder {
+    private final String name;
+    private final Iterable<Tag> tags;
+    private final SlottedCounterImpls.SlottedCounter counter;
+
+    SlottedCounterMeterBinder(String name, SlottedCounterImpls.SlottedCounter counter) {
+        this(name, List.of(), counter);
+    }
+
+    SlottedCounterMeterBinder(String name, Iterable<Tag> tags, SlottedCounterImpls.SlottedCounter counter) {
+        this.name = name;
+        this.tags = tags;
+        this.counter = counter;
+    }
+
+    SlottedCounterImpls.SlottedCounter counter() {
+        return counter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // The counter is only summed up when the registry publishes or is scraped
+        FunctionCounter.builder(name, counter, SlottedCounterImpls.SlottedCounter::sum)
+                .tags(tags)
+                .register(registry);
+    }
+}
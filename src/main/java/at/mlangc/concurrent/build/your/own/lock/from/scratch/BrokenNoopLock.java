@@ -1,11 +1,23 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
+
 public class BrokenNoopLock implements SimpleLock {
     @Override
     public void lock() {
 
     }
 
+    @Override
+    public boolean tryLock() {
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) {
+        return true;
+    }
+
     @Override
     public void unlock() {
 
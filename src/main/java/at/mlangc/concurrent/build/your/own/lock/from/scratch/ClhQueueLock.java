@@ -1,8 +1,11 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+// Waiters can't leave the queue, so tryLock only succeeds while the lock is free and nobody waits for it. Timed
+// tryLock just retries that, and is starved by threads queueing up in lock() under contention.
 public class ClhQueueLock implements SimpleLock {
     private final ThreadLocal<AtomicBoolean> myPred = new ThreadLocal<>();
     private final ThreadLocal<AtomicBoolean> myNode = ThreadLocal.withInitial(() -> new AtomicBoolean(true));
@@ -19,6 +22,34 @@ public class ClhQueueLock implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var pred = endOfQueue.get();
+        if (pred.getAcquire()) {
+            return false;
+        }
+
+        var me = myNode.get();
+        if (!endOfQueue.compareAndSet(pred, me)) {
+            return false;
+        }
+
+        myPred.set(pred);
+
+        // Nodes are recycled, so pred might have been re-enqueued by its new owner between our check and the CAS.
+        // We can't leave the queue anymore, and have to wait for it, which happens rarely.
+        while (pred.getAcquire()) {
+            Thread.onSpinWait();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         var pred = myPred.get();
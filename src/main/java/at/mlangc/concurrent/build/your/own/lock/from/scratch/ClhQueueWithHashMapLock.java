@@ -2,9 +2,12 @@ package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+// tryLock only succeeds if the end of the queue is unlocked; timed tryLock retries that, and thus rarely succeeds
+// while other threads keep queueing up.
 public class ClhQueueWithHashMapLock implements SimpleLock {
     private final Map<Thread, AtomicBoolean> nodes = new IdentityHashMap<>();
     private final AtomicReference<AtomicBoolean> endOfQueue = new AtomicReference<>(new AtomicBoolean());
@@ -21,6 +24,27 @@ public class ClhQueueWithHashMapLock implements SimpleLock {
         nodes.put(Thread.currentThread(), me);
     }
 
+    @Override
+    public boolean tryLock() {
+        var end = endOfQueue.get();
+        if (end.getAcquire()) {
+            return false;
+        }
+
+        var me = new AtomicBoolean(true);
+        if (!endOfQueue.compareAndSet(end, me)) {
+            return false;
+        }
+
+        nodes.put(Thread.currentThread(), me);
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         nodes.remove(Thread.currentThread()).setRelease(false);
@@ -0,0 +1,188 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// Cohort lock as described in "Lock Cohorting: A General Technique for Designing NUMA Locks" by Dice, Marathe and Shavit:
+// Threads first queue up on an MCS lock for their cluster, and the owner of that local lock competes for a global lock.
+// As long as there are local waiters, the global lock is passed along within the cluster, up to maxLocalHandoffs times.
+// tryLock only succeeds without any local waiters, and timed tryLock retries it, so it is starved under contention.
+public class CohortLock implements SimpleLock {
+    private static final int SPINS_BEFORE_PARK = 1 << 12;
+    private static final int DEFAULT_MAX_LOCAL_HANDOFFS = 64;
+
+    private static final int WAITING = 0;
+    private static final int PASSED_WITH_GLOBAL = 1;
+    private static final int PASSED_WITHOUT_GLOBAL = 2;
+
+    private static class Node {
+        final AtomicInteger state = new AtomicInteger();
+        final AtomicReference<Node> behind = new AtomicReference<>();
+        final Thread owner = Thread.currentThread();
+        final Cluster cluster;
+
+        Node(Cluster cluster) {
+            this.cluster = cluster;
+        }
+    }
+
+    private static class Cluster {
+        final AtomicReference<Node> tail = new AtomicReference<>();
+
+        // Only accessed by the thread holding the local lock
+        int localHandoffs;
+    }
+
+    // Needs to be thread oblivious, since it might be released by another thread of the cohort
+    private final AtomicBoolean globalLocked = new AtomicBoolean();
+    private final Cluster[] clusters;
+    private final CpuTopology topology;
+    private final int maxLocalHandoffs;
+
+    // The cluster of a thread is only determined once, since looking it up is expensive
+    private final ThreadLocal<Node> perThreadNode = ThreadLocal.withInitial(this::newNode);
+
+    public CohortLock() {
+        this(CpuTopology.detect(), DEFAULT_MAX_LOCAL_HANDOFFS);
+    }
+
+    public CohortLock(CpuTopology topology, int maxLocalHandoffs) {
+        checkArgument(maxLocalHandoffs > 0, "maxLocalHandoffs must be positive, but got %s", maxLocalHandoffs);
+
+        this.topology = topology;
+        this.maxLocalHandoffs = maxLocalHandoffs;
+        this.clusters = new Cluster[topology.numClusters()];
+        for (int i = 0; i < clusters.length; i++) {
+            clusters[i] = new Cluster();
+        }
+    }
+
+    private Node newNode() {
+        return new Node(clusters[topology.clusterOfCurrentThread()]);
+    }
+
+    @Override
+    public void lock() {
+        var myNode = perThreadNode.get();
+        var cluster = myNode.cluster;
+
+        myNode.state.setPlain(WAITING);
+        myNode.behind.setPlain(null);
+
+        var waitingBeforeMe = cluster.tail.getAndSet(myNode);
+        if (waitingBeforeMe != null) {
+            waitingBeforeMe.behind.setRelease(myNode);
+
+            if (awaitLocalLock(myNode) == PASSED_WITH_GLOBAL) {
+                return;
+            }
+        }
+
+        lockGlobal();
+        cluster.localHandoffs = 0;
+    }
+
+    private int awaitLocalLock(Node myNode) {
+        var spins = 0;
+        int state;
+        while ((state = myNode.state.getAcquire()) == WAITING) {
+            if (++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                spins = 0;
+                LockSupport.park(this);
+            }
+        }
+
+        return state;
+    }
+
+    private void lockGlobal() {
+        if (globalLocked.compareAndSet(false, true)) {
+            return;
+        }
+
+        var backoff = new SpinYieldParkBackoff();
+        while (globalLocked.get() || !globalLocked.compareAndSet(false, true)) {
+            backoff.backoff();
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        var myNode = perThreadNode.get();
+        var cluster = myNode.cluster;
+
+        if (cluster.tail.get() != null || globalLocked.get()) {
+            return false;
+        }
+
+        myNode.state.setPlain(WAITING);
+        myNode.behind.setPlain(null);
+
+        if (!cluster.tail.compareAndSet(null, myNode)) {
+            return false;
+        }
+
+        if (globalLocked.compareAndSet(false, true)) {
+            cluster.localHandoffs = 0;
+            return true;
+        }
+
+        // Give up the local lock again, but leave the global lock to whoever is waiting behind us
+        var waitingForMe = myNode.behind.getAcquire();
+        if (waitingForMe == null) {
+            if (cluster.tail.compareAndSet(myNode, null)) {
+                return false;
+            }
+
+            while ((waitingForMe = myNode.behind.getAcquire()) == null) {
+                Thread.onSpinWait();
+            }
+        }
+
+        waitingForMe.state.setRelease(PASSED_WITHOUT_GLOBAL);
+        LockSupport.unpark(waitingForMe.owner);
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
+    @Override
+    public void unlock() {
+        var myNode = perThreadNode.get();
+        var cluster = myNode.cluster;
+
+        var waitingForMe = myNode.behind.getAcquire();
+        if (waitingForMe == null) {
+            if (cluster.tail.compareAndSet(myNode, null)) {
+                globalLocked.setRelease(false);
+                return;
+            }
+
+            while ((waitingForMe = myNode.behind.getAcquire()) == null) {
+                Thread.onSpinWait();
+            }
+        }
+
+        if (++cluster.localHandoffs < maxLocalHandoffs) {
+            waitingForMe.state.setRelease(PASSED_WITH_GLOBAL);
+        } else {
+            // Give other clusters a chance
+            globalLocked.setRelease(false);
+            waitingForMe.state.setRelease(PASSED_WITHOUT_GLOBAL);
+        }
+
+        LockSupport.unpark(waitingForMe.owner);
+    }
+}
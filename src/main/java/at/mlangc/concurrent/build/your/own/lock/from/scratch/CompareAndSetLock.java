@@ -1,5 +1,6 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class CompareAndSetLock implements SimpleLock {
@@ -17,6 +18,38 @@ public class CompareAndSetLock implements SimpleLock {
         entries++;
     }
 
+    @Override
+    public boolean tryLock() {
+        if (owner.getPlain() != Thread.currentThread() && !owner.compareAndSet(null, Thread.currentThread())) {
+            return false;
+        }
+
+        entries++;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+
+        if (owner.getPlain() != Thread.currentThread()) {
+            while (!owner.weakCompareAndSetAcquire(null, Thread.currentThread())) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+
+                if (System.nanoTime() - deadlineNanos >= 0) {
+                    return false;
+                }
+
+                Thread.onSpinWait();
+            }
+        }
+
+        entries++;
+        return true;
+    }
+
     @Override
     public void unlock() {
         if (owner.get() != Thread.currentThread()) {
@@ -0,0 +1,168 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// Maps threads to clusters of CPUs that share a NUMA node, as far as this can be figured out from plain Java
+public final class CpuTopology {
+    private static final Path SYS_FS_NODES = Path.of("/sys/devices/system/node");
+    private static final Path THREAD_STAT = Path.of("/proc/thread-self/stat");
+    private static final Pattern NODE_DIR = Pattern.compile("node(\\d+)");
+
+    // Index of the "processor" field in /proc/thread-self/stat, counted from the first field after the command name
+    private static final int PROCESSOR_FIELD = 36;
+
+    private static final int DEFAULT_FALLBACK_CLUSTERS = 2;
+
+    // Null if we fall back to hashing thread ids
+    private final int[] clusterOfCpu;
+    private final int numClusters;
+
+    private CpuTopology(int[] clusterOfCpu, int numClusters) {
+        this.clusterOfCpu = clusterOfCpu;
+        this.numClusters = numClusters;
+    }
+
+    public static CpuTopology detect() {
+        return detect(DEFAULT_FALLBACK_CLUSTERS);
+    }
+
+    public static CpuTopology detect(int fallbackClusters) {
+        try {
+            return fromSysFs(SYS_FS_NODES);
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            return hashingThreadIds(fallbackClusters);
+        }
+    }
+
+    public static CpuTopology of(int[] nodeOfCpu) {
+        checkArgument(nodeOfCpu.length > 0, "nodeOfCpu must not be empty");
+
+        // Node ids might be sparse, so map them to dense cluster indices
+        var nodes = Arrays.stream(nodeOfCpu).distinct().sorted().toArray();
+        var clusterOfCpu = new int[nodeOfCpu.length];
+        for (int cpu = 0; cpu < nodeOfCpu.length; cpu++) {
+            checkArgument(nodeOfCpu[cpu] >= 0, "Invalid node %s for CPU %s", nodeOfCpu[cpu], cpu);
+            clusterOfCpu[cpu] = Arrays.binarySearch(nodes, nodeOfCpu[cpu]);
+        }
+
+        return new CpuTopology(clusterOfCpu, nodes.length);
+    }
+
+    public static CpuTopology hashingThreadIds(int numClusters) {
+        checkArgument(numClusters > 0, "numClusters must be positive, but got %s", numClusters);
+        return new CpuTopology(null, numClusters);
+    }
+
+    static CpuTopology fromSysFs(Path nodesDir) {
+        var nodeDirs = new ArrayList<Path>();
+        try (var paths = Files.list(nodesDir)) {
+            paths.filter(path -> NODE_DIR.matcher(path.getFileName().toString()).matches()).forEach(nodeDirs::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        checkArgument(!nodeDirs.isEmpty(), "No NUMA nodes found in %s", nodesDir);
+        nodeDirs.sort(Comparator.comparingInt(CpuTopology::nodeIdOf));
+
+        var nodeOfCpu = new int[0];
+        for (var nodeDir : nodeDirs) {
+            var node = nodeIdOf(nodeDir);
+
+            for (var cpu : parseCpuList(readString(nodeDir.resolve("cpulist")))) {
+                if (cpu >= nodeOfCpu.length) {
+                    var oldLength = nodeOfCpu.length;
+                    nodeOfCpu = Arrays.copyOf(nodeOfCpu, cpu + 1);
+                    Arrays.fill(nodeOfCpu, oldLength, nodeOfCpu.length, -1);
+                }
+
+                nodeOfCpu[cpu] = node;
+            }
+        }
+
+        checkArgument(nodeOfCpu.length > 0, "No CPUs found in %s", nodesDir);
+
+        // Offline CPUs that are not listed for any node: just pretend they belong to the first one
+        for (int cpu = 0; cpu < nodeOfCpu.length; cpu++) {
+            if (nodeOfCpu[cpu] < 0) {
+                nodeOfCpu[cpu] = nodeIdOf(nodeDirs.getFirst());
+            }
+        }
+
+        return of(nodeOfCpu);
+    }
+
+    // Parses lists like "0-3,8-11" as found in /sys/devices/system/node/node0/cpulist
+    static List<Integer> parseCpuList(String cpuList) {
+        var cpus = new ArrayList<Integer>();
+
+        for (var range : cpuList.strip().split(",")) {
+            if (range.isEmpty()) {
+                continue;
+            }
+
+            var dash = range.indexOf('-');
+            if (dash < 0) {
+                cpus.add(Integer.parseInt(range));
+            } else {
+                var from = Integer.parseInt(range.substring(0, dash));
+                var to = Integer.parseInt(range.substring(dash + 1));
+                checkArgument(from <= to, "Invalid CPU range %s", range);
+
+                for (int cpu = from; cpu <= to; cpu++) {
+                    cpus.add(cpu);
+                }
+            }
+        }
+
+        return cpus;
+    }
+
+    public int numClusters() {
+        return numClusters;
+    }
+
+    // Expensive, since it might read from procfs, so callers should cache the result
+    public int clusterOfCurrentThread() {
+        if (clusterOfCpu != null) {
+            var cpu = currentCpu();
+            if (cpu >= 0 && cpu < clusterOfCpu.length) {
+                return clusterOfCpu[cpu];
+            }
+        }
+
+        var hash = Long.hashCode(Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L);
+        return Math.floorMod(hash, numClusters);
+    }
+
+    private static int currentCpu() {
+        try {
+            var stat = Files.readString(THREAD_STAT);
+            var fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return fields.length > PROCESSOR_FIELD ? Integer.parseInt(fields[PROCESSOR_FIELD]) : -1;
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static int nodeIdOf(Path nodeDir) {
+        return Integer.parseInt(nodeDir.getFileName().toString().substring("node".length()));
+    }
+
+    private static String readString(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
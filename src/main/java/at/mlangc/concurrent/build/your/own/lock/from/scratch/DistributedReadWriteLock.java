@@ -0,0 +1,226 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// Readers-writer lock with one reader counter per core, so that readers don't bounce a shared cache line around.
+// Writers queue up on an McsLock, and announce themselves by making the version odd, which also invalidates optimistic reads.
+public class DistributedReadWriteLock {
+    // Puts every reader counter on its own cache line, assuming lines of at most 128 bytes
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray readers;
+    private final int slotMask;
+    private final AtomicLong version = new AtomicLong();
+    private final McsLock writerQueue = new McsLock();
+
+    // Only written by the thread holding the writerQueue lock, and only compared against the current thread
+    private Thread writer;
+
+    private final SimpleLock readLock = new SimpleLock() {
+        @Override
+        public void lock() {
+            lockRead();
+        }
+
+        @Override
+        public boolean tryLock() {
+            return tryLockRead();
+        }
+
+        // Readers only have to wait for writers, who hold the lock briefly, so retrying is good enough here
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return SimpleLocks.retryTryLock(this, time, unit);
+        }
+
+        @Override
+        public void unlock() {
+            readers.getAndDecrement(readerIndex());
+        }
+    };
+
+    private final SimpleLock writeLock = new SimpleLock() {
+        @Override
+        public void lock() {
+            lockWrite();
+        }
+
+        @Override
+        public boolean tryLock() {
+            return tryLockWrite();
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return tryLockWrite(time, unit);
+        }
+
+        @Override
+        public void unlock() {
+            if (writer != Thread.currentThread()) {
+                throw new IllegalMonitorStateException("Write lock not held by unlocking thread");
+            }
+
+            writer = null;
+            version.getAndIncrement();
+            writerQueue.unlock();
+        }
+    };
+
+    public DistributedReadWriteLock() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public DistributedReadWriteLock(int numSlots) {
+        checkArgument(numSlots > 0, "numSlots must be positive, but got %s", numSlots);
+
+        var slots = Integer.highestOneBit(numSlots) == numSlots ? numSlots : Integer.highestOneBit(numSlots) << 1;
+        this.readers = new AtomicLongArray(slots * PADDING);
+        this.slotMask = slots - 1;
+    }
+
+    // Neither lock is reentrant: readers that re-enter while a writer is waiting would deadlock
+    public SimpleLock readLock() {
+        return readLock;
+    }
+
+    public SimpleLock writeLock() {
+        return writeLock;
+    }
+
+    // Stamps obtained while a writer holds or waits for the lock are odd and never validate
+    public long tryOptimisticRead() {
+        return version.get();
+    }
+
+    public boolean validate(long stamp) {
+        VarHandle.acquireFence();
+        return (stamp & 1) == 0 && version.get() == stamp;
+    }
+
+    private void lockRead() {
+        var index = readerIndex();
+
+        while (true) {
+            readers.getAndIncrement(index);
+            if ((version.get() & 1) == 0) {
+                return;
+            }
+
+            // Back off to let the writer drain the readers
+            readers.getAndDecrement(index);
+
+            var backoff = new SpinYieldParkBackoff();
+            while ((version.get() & 1) != 0) {
+                backoff.backoff();
+            }
+        }
+    }
+
+    private boolean tryLockRead() {
+        var index = readerIndex();
+
+        readers.getAndIncrement(index);
+        if ((version.get() & 1) == 0) {
+            return true;
+        }
+
+        readers.getAndDecrement(index);
+        return false;
+    }
+
+    private void lockWrite() {
+        rejectReentry();
+        writerQueue.lock();
+        announceWriter();
+
+        for (int slot = 0; slot <= slotMask; slot++) {
+            if (readers.get(slot * PADDING) != 0) {
+                var backoff = new SpinYieldParkBackoff();
+                while (readers.get(slot * PADDING) != 0) {
+                    backoff.backoff();
+                }
+            }
+        }
+    }
+
+    private boolean tryLockWrite() {
+        rejectReentry();
+        if (!writerQueue.tryLock()) {
+            return false;
+        }
+
+        announceWriter();
+        for (int slot = 0; slot <= slotMask; slot++) {
+            if (readers.get(slot * PADDING) != 0) {
+                rollBackWriter();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean tryLockWrite(long time, TimeUnit unit) throws InterruptedException {
+        var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+
+        rejectReentry();
+        if (!writerQueue.tryLock(time, unit)) {
+            return false;
+        }
+
+        announceWriter();
+        for (int slot = 0; slot <= slotMask; slot++) {
+            if (readers.get(slot * PADDING) != 0) {
+                var backoff = new SpinYieldParkBackoff();
+                while (readers.get(slot * PADDING) != 0) {
+                    if (Thread.interrupted()) {
+                        rollBackWriter();
+                        throw new InterruptedException();
+                    }
+
+                    var remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        rollBackWriter();
+                        return false;
+                    }
+
+                    backoff.backoff(remainingNanos);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void rejectReentry() {
+        // The McsLock is reentrant, but entering twice would make the version even again
+        if (writer == Thread.currentThread()) {
+            throw new IllegalMonitorStateException("Write lock is not reentrant");
+        }
+    }
+
+    private void announceWriter() {
+        writer = Thread.currentThread();
+        version.getAndIncrement();
+    }
+
+    // Nothing has been written yet, so optimistic reads that started before the writer announced itself stay valid
+    private void rollBackWriter() {
+        version.getAndDecrement();
+        writer = null;
+        writerQueue.unlock();
+    }
+
+    private int readerIndex() {
+        var hash = Long.hashCode(Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L);
+        return (hash & slotMask) * PADDING;
+    }
+}
@@ -1,7 +1,10 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+// No timeouts: tryLock can't join the queue unless the lock is free, and timed tryLock merely retries, so it starves
+// under contention.
 public class FancyClhQueueLock implements SimpleLock {
     private static class Node {
         Node(boolean locked) {
@@ -27,6 +30,23 @@ public class FancyClhQueueLock implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var next = tail.get();
+        if (next.locked) {
+            return false;
+        }
+
+        var myNode = new Node(true);
+        myNode.next = next;
+        return tail.compareAndSet(next, myNode);
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         Node prev = null;
@@ -48,5 +68,4 @@ public class FancyClhQueueLock implements SimpleLock {
             }
         }
     }
-
 }
@@ -1,5 +1,6 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class GetAndSetLock implements SimpleLock {
@@ -21,6 +22,18 @@ public class GetAndSetLock implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var threadId = Thread.currentThread().threadId();
+        var currentOwner = owner.getOpaque();
+        return currentOwner == threadId || currentOwner == -1 && owner.compareAndSet(-1, threadId);
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         owner.setRelease(-1);
@@ -1,51 +1,202 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 
 public class McsLock implements SimpleLock {
     private static final int SPINS_BEFORE_PARK = 25_000;
 
+    // Rough cost of parking a thread and unparking it again; spinning longer than that doesn't pay off
+    private static final long PARK_ROUND_TRIP_NANOS = 20_000;
+    private static final int SPINS_BETWEEN_CLOCK_CHECKS = 128;
+    private static final int HOLD_TIME_SMOOTHING_SHIFT = 3;
+
+    private static final int UNLOCKED = 0;
+    private static final int LOCKED = 1;
+    private static final int ABANDONED = 2;
+
     private static class Node {
-        final AtomicBoolean locked = new AtomicBoolean();
+        final AtomicInteger state = new AtomicInteger(UNLOCKED);
         final AtomicReference<Node> behind = new AtomicReference<>();
         final Thread owner = Thread.currentThread();
         long entries;
+        long acquiredAtNanos;
     }
 
     private final ThreadLocal<Node> perThreadNode = ThreadLocal.withInitial(Node::new);
     private final AtomicReference<Node> tail = new AtomicReference<>();
+    private final boolean adaptiveSpinning;
+
+    // Exponential moving average of recent hold times; only written by the lock holder
+    private final AtomicLong avgHoldNanos = new AtomicLong();
+
+    public McsLock() {
+        this(true);
+    }
+
+    public McsLock(boolean adaptiveSpinning) {
+        this.adaptiveSpinning = adaptiveSpinning;
+    }
 
     @Override
     public void lock() {
         var myNode = perThreadNode.get();
 
-        if (!myNode.locked.getPlain()) {
+        if (myNode.state.getPlain() != LOCKED) {
             var waitingBeforeMe = tail.getAndSet(myNode);
             if (waitingBeforeMe != null) {
                 waitingBeforeMe.behind.setRelease(myNode);
 
-                var spins = 0;
-                while (!myNode.locked.getAcquire()) {
-                    if (++spins < SPINS_BEFORE_PARK) {
-                        Thread.onSpinWait();
-                    } else {
-                        spins = 0;
-                        LockSupport.park(this);
-                    }
+                if (adaptiveSpinning) {
+                    awaitAdaptively(myNode);
+                } else {
+                    awaitWithFixedSpins(myNode);
                 }
             }
+
+            if (adaptiveSpinning) {
+                myNode.acquiredAtNanos = System.nanoTime();
+            }
         }
 
-        myNode.locked.setPlain(true);
+        myNode.state.setPlain(LOCKED);
         myNode.entries++;
     }
 
+    @Override
+    public boolean tryLock() {
+        var myNode = perThreadNode.get();
+
+        if (myNode.state.getPlain() != LOCKED) {
+            if (!tail.compareAndSet(null, myNode)) {
+                return false;
+            }
+
+            if (adaptiveSpinning) {
+                myNode.acquiredAtNanos = System.nanoTime();
+            }
+        }
+
+        myNode.state.setPlain(LOCKED);
+        myNode.entries++;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        var myNode = perThreadNode.get();
+
+        if (myNode.state.getPlain() != LOCKED) {
+            var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+            var waitingBeforeMe = tail.getAndSet(myNode);
+            if (waitingBeforeMe != null) {
+                waitingBeforeMe.behind.setRelease(myNode);
+
+                if (!awaitUntil(myNode, deadlineNanos)) {
+                    return false;
+                }
+            }
+
+            if (adaptiveSpinning) {
+                myNode.acquiredAtNanos = System.nanoTime();
+            }
+        }
+
+        myNode.state.setPlain(LOCKED);
+        myNode.entries++;
+        return true;
+    }
+
+    private void awaitWithFixedSpins(Node myNode) {
+        var spins = 0;
+        while (myNode.state.getAcquire() != LOCKED) {
+            if (++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                spins = 0;
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void awaitAdaptively(Node myNode) {
+        // We have to wait at least for the remaining hold time of our predecessor, so if the lock is typically
+        // held longer than a park/unpark round trip, parking right away is the cheaper option
+        if (shouldSpin()) {
+            spinUntil(myNode, System.nanoTime() + PARK_ROUND_TRIP_NANOS);
+        }
+
+        while (myNode.state.getAcquire() != LOCKED) {
+            LockSupport.park(this);
+        }
+    }
+
+    // Returns false if we gave up before the lock was handed to us, in which case our node is left to the queue
+    private boolean awaitUntil(Node myNode, long deadlineNanos) throws InterruptedException {
+        if (shouldSpin()) {
+            var spinUntilNanos = System.nanoTime() + PARK_ROUND_TRIP_NANOS;
+            spinUntil(myNode, spinUntilNanos - deadlineNanos < 0 ? spinUntilNanos : deadlineNanos);
+        }
+
+        while (myNode.state.getAcquire() != LOCKED) {
+            var interrupted = Thread.interrupted();
+            var remainingNanos = deadlineNanos - System.nanoTime();
+
+            if (interrupted || remainingNanos <= 0) {
+                if (myNode.state.compareAndSet(UNLOCKED, ABANDONED)) {
+                    // Releasers might still walk over our old node, so we can't reuse it
+                    perThreadNode.set(new Node());
+
+                    if (interrupted) {
+                        throw new InterruptedException();
+                    }
+
+                    return false;
+                }
+
+                // The lock has been handed to us in the meantime, so keep it
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return true;
+            }
+
+            LockSupport.parkNanos(this, remainingNanos);
+        }
+
+        return true;
+    }
+
+    private boolean shouldSpin() {
+        // Always true if adaptive spinning is off, since hold times are only recorded if it is on
+        return avgHoldNanos.getOpaque() < PARK_ROUND_TRIP_NANOS;
+    }
+
+    private static void spinUntil(Node myNode, long spinUntilNanos) {
+        var spins = 0;
+        while (myNode.state.getAcquire() != LOCKED) {
+            Thread.onSpinWait();
+
+            if (++spins % SPINS_BETWEEN_CLOCK_CHECKS == 0 && System.nanoTime() - spinUntilNanos > 0) {
+                return;
+            }
+        }
+    }
+
+    private void recordHoldTime(Node myNode) {
+        var holdNanos = System.nanoTime() - myNode.acquiredAtNanos;
+        var avg = avgHoldNanos.getPlain();
+        avgHoldNanos.setOpaque(avg + ((holdNanos - avg) >> HOLD_TIME_SMOOTHING_SHIFT));
+    }
+
     @Override
     public void unlock() {
         var myNode = perThreadNode.get();
-        if (!myNode.locked.getPlain()) {
+        if (myNode.state.getPlain() != LOCKED) {
             throw new IllegalMonitorStateException("Not locked by unlocking thread");
         }
 
@@ -53,26 +204,38 @@ public class McsLock implements SimpleLock {
             return;
         }
 
-        if (myNode.behind.getPlain() == null) {
-            if (tail.compareAndSet(myNode, null)) {
-                myNode.locked.setPlain(false);
-                return;
-            }
+        if (adaptiveSpinning) {
+            recordHoldTime(myNode);
         }
 
+        var node = myNode;
         while (true) {
-            var waitingForMe = myNode.behind.getAcquire();
+            var waitingForNode = node.behind.getAcquire();
 
-            if (waitingForMe == null) {
-                Thread.onSpinWait();
-            } else {
+            if (waitingForNode == null) {
+                if (tail.compareAndSet(node, null)) {
+                    break;
+                }
+
+                while ((waitingForNode = node.behind.getAcquire()) == null) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            if (node == myNode) {
                 myNode.behind.setPlain(null);
-                myNode.locked.setPlain(false);
-                waitingForMe.locked.setRelease(true);
-                LockSupport.unpark(waitingForMe.owner);
+            }
+
+            if (waitingForNode.state.compareAndSet(UNLOCKED, LOCKED)) {
+                LockSupport.unpark(waitingForNode.owner);
                 break;
             }
+
+            // The waiter timed out, so skip its node
+            node = waitingForNode;
         }
+
+        myNode.state.setPlain(UNLOCKED);
     }
 
     @Override
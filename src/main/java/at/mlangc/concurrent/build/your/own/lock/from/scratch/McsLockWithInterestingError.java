@@ -1,5 +1,6 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -29,6 +30,18 @@ public class McsLockWithInterestingError implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var myNode = perThreadNode.get();
+        myNode.locked.setPlain(false);
+        return tail.compareAndSet(null, myNode);
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         var myNode = perThreadNode.get();
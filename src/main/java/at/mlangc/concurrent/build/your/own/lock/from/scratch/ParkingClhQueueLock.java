@@ -0,0 +1,101 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// Parked waiters stay in the queue, so tryLock only succeeds if nobody is queued; under contention, timed tryLock
+// keeps failing until it times out. Use TimeoutClhQueueLock if waiters need to give up.
+public class ParkingClhQueueLock implements SimpleLock {
+    private static final int MIN_SPINS = 1 << 6;
+    private static final int MAX_SPINS = 1 << 16;
+
+    private static class Node {
+        Node(boolean locked) {
+            this.owner = Thread.currentThread();
+            this.locked = locked;
+        }
+
+        final Thread owner;
+        volatile boolean locked;
+
+        // Only set by the successor right before it parks
+        volatile Node parkedSuccessor;
+    }
+
+    private final ThreadLocal<Node> myNode = new ThreadLocal<>();
+    private final AtomicReference<Node> tail = new AtomicReference<>(new Node(false));
+
+    // Updated racily, since lost updates only make the budget adapt a bit slower
+    private int spinBudget = MIN_SPINS;
+
+    @Override
+    public void lock() {
+        var me = new Node(true);
+        var pred = tail.getAndSet(me);
+        myNode.set(me);
+
+        if (!pred.locked) {
+            return;
+        }
+
+        var budget = spinBudget;
+        for (int spins = 0; spins < budget; spins++) {
+            Thread.onSpinWait();
+
+            if (!pred.locked) {
+                spinBudget = Math.min(MAX_SPINS, budget << 1);
+                return;
+            }
+        }
+
+        // Like AbstractQueuedSynchronizer: park returns immediately while the interrupt flag is set, so clear it
+        // while waiting, and restore it once we own the lock
+        var interrupted = false;
+        pred.parkedSuccessor = me;
+        while (pred.locked) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+
+        spinBudget = Math.max(MIN_SPINS, budget >> 1);
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Only succeeds if nobody is queued, since the tail is then still the node of the last, unlocked owner
+    @Override
+    public boolean tryLock() {
+        var pred = tail.get();
+        if (pred.locked) {
+            return false;
+        }
+
+        var me = new Node(true);
+        if (!tail.compareAndSet(pred, me)) {
+            return false;
+        }
+
+        myNode.set(me);
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
+    @Override
+    public void unlock() {
+        var me = myNode.get();
+        me.locked = false;
+
+        // Both fields are volatile, so either we see the successor, or the successor sees that we are unlocked
+        var successor = me.parkedSuccessor;
+        if (successor != null) {
+            LockSupport.unpark(successor.owner);
+        }
+    }
+}
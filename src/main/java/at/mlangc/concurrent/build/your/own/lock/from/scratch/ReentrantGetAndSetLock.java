@@ -1,5 +1,6 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class ReentrantGetAndSetLock implements SimpleLock {
@@ -22,6 +23,22 @@ public class ReentrantGetAndSetLock implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var currentOwner = owner.getOpaque();
+        if (currentOwner != Thread.currentThread() && (currentOwner != null || !owner.compareAndSet(null, Thread.currentThread()))) {
+            return false;
+        }
+
+        entries++;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         if (Thread.currentThread() != owner.getOpaque()) {
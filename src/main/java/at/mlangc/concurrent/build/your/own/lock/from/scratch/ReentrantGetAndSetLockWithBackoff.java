@@ -1,11 +1,13 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.Backoff;
 import org.apache.commons.lang3.exception.UncheckedInterruptedException;
 
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -13,8 +15,7 @@ public class ReentrantGetAndSetLockWithBackoff implements SimpleLock {
     private final AtomicReference<Thread> owner = new AtomicReference<>();
     private int entries;
 
-    private final long initialBackoffLimitNanos;
-    private final long finalBackoffLimitNanos;
+    private final Supplier<? extends Backoff> backoffFactory;
 
     public ReentrantGetAndSetLockWithBackoff() {
         this(100, 1_000_000, TimeUnit.MICROSECONDS);
@@ -23,13 +24,18 @@ public class ReentrantGetAndSetLockWithBackoff implements SimpleLock {
     ReentrantGetAndSetLockWithBackoff(long initiaBackoffLimit, long finalBackoffLimit, TimeUnit timeUnit) {
         checkArgument(initiaBackoffLimit < finalBackoffLimit);
 
-        this.initialBackoffLimitNanos = timeUnit.toNanos(initiaBackoffLimit);
-        this.finalBackoffLimitNanos = timeUnit.toNanos(finalBackoffLimit);
+        var initialBackoffLimitNanos = timeUnit.toNanos(initiaBackoffLimit);
+        var finalBackoffLimitNanos = timeUnit.toNanos(finalBackoffLimit);
+        this.backoffFactory = () -> new SleepingBackoff(initialBackoffLimitNanos, finalBackoffLimitNanos);
+    }
+
+    ReentrantGetAndSetLockWithBackoff(Supplier<? extends Backoff> backoffFactory) {
+        this.backoffFactory = backoffFactory;
     }
 
     @Override
     public void lock() {
-        long limitNanos = initialBackoffLimitNanos;
+        Backoff backoff = null;
         while (true) {
             var currentOwner = owner.getOpaque();
             if (currentOwner == Thread.currentThread()) {
@@ -40,8 +46,11 @@ public class ReentrantGetAndSetLockWithBackoff implements SimpleLock {
                     entries++;
                     break;
                 } else {
-                    sleepNanos(ThreadLocalRandom.current().nextLong(limitNanos));
-                    limitNanos = Math.min(finalBackoffLimitNanos, 2 * limitNanos);
+                    if (backoff == null) {
+                        backoff = backoffFactory.get();
+                    }
+
+                    backoff.backoff();
                 }
             } else {
                 Thread.onSpinWait();
@@ -49,6 +58,22 @@ public class ReentrantGetAndSetLockWithBackoff implements SimpleLock {
         }
     }
 
+    @Override
+    public boolean tryLock() {
+        var currentOwner = owner.getOpaque();
+        if (currentOwner != Thread.currentThread() && (currentOwner != null || !owner.compareAndSet(null, Thread.currentThread()))) {
+            return false;
+        }
+
+        entries++;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         if (Thread.currentThread() != owner.getOpaque()) {
@@ -65,12 +90,28 @@ public class ReentrantGetAndSetLockWithBackoff implements SimpleLock {
         return true;
     }
 
-    private void sleepNanos(long nanos) {
-        try {
-            Thread.sleep(Duration.ofNanos(nanos));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new UncheckedInterruptedException(e);
+    private static class SleepingBackoff implements Backoff {
+        private final long finalLimitNanos;
+        private long limitNanos;
+
+        SleepingBackoff(long initialLimitNanos, long finalLimitNanos) {
+            this.limitNanos = initialLimitNanos;
+            this.finalLimitNanos = finalLimitNanos;
+        }
+
+        @Override
+        public void backoff() {
+            sleepNanos(ThreadLocalRandom.current().nextLong(limitNanos));
+            limitNanos = Math.min(finalLimitNanos, 2 * limitNanos);
+        }
+
+        private static void sleepNanos(long nanos) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedInterruptedException(e);
+            }
         }
     }
 }
@@ -54,6 +54,22 @@ public class ReentrantGetAndSetLockWithBackoffWithInterestingBug implements Simp
         maxBackoffNanos = 0;
     }
 
+    @Override
+    public boolean tryLock() {
+        var currentOwner = owner.getOpaque();
+        if (currentOwner != Thread.currentThread() && (currentOwner != null || !owner.compareAndSet(null, Thread.currentThread()))) {
+            return false;
+        }
+
+        entries++;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return SimpleLocks.retryTryLock(this, time, unit);
+    }
+
     @Override
     public void unlock() {
         if (Thread.currentThread() != owner.getOpaque()) {
@@ -1,6 +1,7 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 
@@ -31,6 +32,49 @@ class ReentrantLikeQueueLock implements SimpleLock {
         waiters.remove();
     }
 
+    @Override
+    public boolean tryLock() {
+        return (!fair || waiters.isEmpty()) && owner.compareAndSet(null, Thread.currentThread());
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        if (tryLock()) {
+            return true;
+        }
+
+        var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+        waiters.add(Thread.currentThread());
+
+        while (waiters.peek() != Thread.currentThread() || !owner.compareAndSet(null, Thread.currentThread())) {
+            if (Thread.interrupted()) {
+                abandonWaiting();
+                throw new InterruptedException();
+            }
+
+            var remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                abandonWaiting();
+                return false;
+            }
+
+            LockSupport.parkNanos(this, remainingNanos);
+        }
+
+        waiters.remove();
+        return true;
+    }
+
+    private void abandonWaiting() {
+        waiters.remove(Thread.currentThread());
+
+        // We might have consumed the wakeup meant for the next waiter
+        var next = waiters.peek();
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+
     @Override
     public void unlock() {
         owner.set(null);
@@ -1,9 +1,15 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import java.util.concurrent.TimeUnit;
+
 interface SimpleLock {
     void lock();
     void unlock();
 
+    boolean tryLock();
+
+    boolean tryLock(long time, TimeUnit unit) throws InterruptedException;
+
     default boolean isReentrant() {
         return false;
     }
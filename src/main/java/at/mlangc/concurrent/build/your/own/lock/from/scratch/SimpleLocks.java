@@ -1,8 +1,40 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
 import org.apache.commons.lang3.mutable.MutableInt;
 
+import java.util.concurrent.TimeUnit;
+
 class SimpleLocks {
+    // For locks that can't give up a place in their queue: retries tryLock, backing off in between, until it succeeds
+    // or the time is up. This is no real timed acquisition: queue locks only succeed in tryLock while nobody is
+    // queued, so under contention, callers of this method starve while threads in lock() keep getting through.
+    static boolean retryTryLock(SimpleLock lock, long time, TimeUnit unit) throws InterruptedException {
+        var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+        SpinYieldParkBackoff backoff = null;
+
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            if (lock.tryLock()) {
+                return true;
+            }
+
+            var remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+
+            if (backoff == null) {
+                backoff = new SpinYieldParkBackoff();
+            }
+
+            backoff.backoff(remainingNanos);
+        }
+    }
+
     static SimpleLock makeReentrantAndChecked(SimpleLock lock) {
         if (lock.isReentrant() && lock.hasCheckedUnlock()) {
             return lock;
@@ -30,6 +62,28 @@ class SimpleLocks {
             entries.increment();
         }
 
+        @Override
+        public boolean tryLock() {
+            var entries = perThreadEntries.get();
+            if (entries.intValue() == 0 && !lock.tryLock()) {
+                return false;
+            }
+
+            entries.increment();
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            var entries = perThreadEntries.get();
+            if (entries.intValue() == 0 && !lock.tryLock(time, unit)) {
+                return false;
+            }
+
+            entries.increment();
+            return true;
+        }
+
         @Override
         public void unlock() {
             var entries = perThreadEntries.get();
@@ -0,0 +1,99 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// CLH lock that supports timeouts by abandoning nodes, like the TOLock from chapter 7 of "The Art of Multiprocessor Programming"
+public class TimeoutClhQueueLock implements SimpleLock {
+    private static class Node {
+        // null while waiting for or holding the lock, AVAILABLE after unlock, and the predecessor if abandoned
+        volatile Node pred;
+    }
+
+    private static final Node AVAILABLE = new Node();
+
+    private final ThreadLocal<Node> myNode = new ThreadLocal<>();
+    private final AtomicReference<Node> tail = new AtomicReference<>();
+
+    @Override
+    public void lock() {
+        var me = new Node();
+        myNode.set(me);
+
+        var pred = tail.getAndSet(me);
+        if (pred == null) {
+            return;
+        }
+
+        while (true) {
+            var predPred = pred.pred;
+            if (predPred == AVAILABLE) {
+                return;
+            } else if (predPred != null) {
+                pred = predPred;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        // Might fail spuriously if the tail has just been abandoned
+        var last = tail.get();
+        if (last != null && last.pred != AVAILABLE) {
+            return false;
+        }
+
+        var me = new Node();
+        if (!tail.compareAndSet(last, me)) {
+            return false;
+        }
+
+        myNode.set(me);
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        var deadlineNanos = System.nanoTime() + unit.toNanos(time);
+        var me = new Node();
+        myNode.set(me);
+
+        var pred = tail.getAndSet(me);
+        if (pred == null) {
+            return true;
+        }
+
+        while (true) {
+            var predPred = pred.pred;
+            if (predPred == AVAILABLE) {
+                return true;
+            } else if (predPred != null) {
+                pred = predPred;
+            } else if (Thread.interrupted()) {
+                abandon(me, pred);
+                throw new InterruptedException();
+            } else if (System.nanoTime() - deadlineNanos >= 0) {
+                abandon(me, pred);
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void abandon(Node me, Node pred) {
+        if (!tail.compareAndSet(me, pred)) {
+            me.pred = pred;
+        }
+    }
+
+    @Override
+    public void unlock() {
+        var me = myNode.get();
+        if (!tail.compareAndSet(me, null)) {
+            me.pred = AVAILABLE;
+        }
+    }
+}
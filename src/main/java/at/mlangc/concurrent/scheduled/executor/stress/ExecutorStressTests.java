@@ -2,6 +2,7 @@ package at.mlangc.concurrent.scheduled.executor.stress;
 
 import at.mlangc.micrometer.MicrometerRegistryProvider;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -12,6 +13,7 @@ import java.util.Locale;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static at.mlangc.concurrent.scheduled.executor.stress.ExecutorStressHelpers.milliSleep;
 import static at.mlangc.concurrent.scheduled.executor.stress.ExecutorStressHelpers.waitForEnterToContinue;
@@ -21,36 +23,85 @@ public class ExecutorStressTests {
 
     static void main() throws Exception {
         Locale.setDefault(Locale.ENGLISH);
-        new SchedulePermanentlyDelayedByExecute().run();
+        for (var executorType : ExecutorType.values()) {
+            new SchedulePermanentlyDelayedByExecute().using(executorType).run();
+        }
+    }
+
+    enum ExecutorType {
+        SINGLE_THREAD(Executors::newSingleThreadScheduledExecutor),
+        TIMING_WHEEL(TimingWheelScheduledExecutorService::new),
+        VIRTUAL_THREADS(VirtualThreadScheduledExecutorService::new),
+        VIRTUAL_THREADS_SKIP_MISSED(() -> new VirtualThreadScheduledExecutorService(VirtualThreadScheduledExecutorService.CatchUpPolicy.SKIP_MISSED)),
+        PRIORITY_LANES(PriorityLaneScheduledExecutorService::new);
+
+        final Supplier<ScheduledExecutorService> ctor;
+
+        ExecutorType(Supplier<ScheduledExecutorService> ctor) {
+            this.ctor = ctor;
+        }
     }
 
     static abstract class StressTest {
         final ExecutorStressHelpers.Ticker ticker = getOrCreateTicker();
+        final LagHistogram lagHistogram = new LagHistogram();
+        ExecutorType executorType = ExecutorType.SINGLE_THREAD;
+
+        StressTest using(ExecutorType executorType) {
+            this.executorType = executorType;
+            return this;
+        }
 
         ExecutorStressHelpers.Ticker getOrCreateTicker() {
             return ExecutorStressHelpers.Ticker.SYSTEM;
         }
 
         ScheduledExecutorService getOrCreateExecutor() {
-            return Executors.newSingleThreadScheduledExecutor();
+            return executorType.ctor.get();
         }
 
         abstract void run(ScheduledExecutorService executor) throws Exception;
 
         final void run() throws Exception {
-            var meterRegistry = MicrometerRegistryProvider.newDynatraceMeterRegistry();
+            var meterRegistry = MicrometerRegistryProvider.newMeterRegistry();
             var executor = getOrCreateExecutor();
             var metrics = new ExecutorServiceMetrics(executor, getClass().getSimpleName(), "java.snippets", List.of());
             metrics.bindTo(meterRegistry);
+            if (executor instanceof MeterBinder binder) {
+                binder.bindTo(meterRegistry);
+            }
 
             try {
                 run(executor);
             } finally {
                 shutdownExecutor(executor);
                 meterRegistry.close();
+
+                if (lagHistogram.count() > 0) {
+                    LOG.info("Scheduling lag of {} on {}: {}", getClass().getSimpleName(), executorType, lagHistogram.summary());
+                }
+
+                if (executor instanceof PriorityLaneScheduledExecutorService lanes) {
+                    for (var lane : PriorityLaneScheduledExecutorService.Lane.values()) {
+                        LOG.info("Wait time in {} lane: {}", lane, lanes.waitTimeSummary(lane));
+                    }
+                }
             }
         }
 
+        Runnable recordingLag(long initialDelay, long period, TimeUnit timeUnit, Runnable task) {
+            var ticker = this.ticker.resetZeroToNow();
+            var initialDelayNanos = timeUnit.toNanos(initialDelay);
+            var periodNanos = timeUnit.toNanos(period);
+            var invocations = new long[1];
+
+            return () -> {
+                var idealNanos = initialDelayNanos + invocations[0]++ * periodNanos;
+                lagHistogram.record(ticker.readNanos() - idealNanos);
+                task.run();
+            };
+        }
+
         void shutdownExecutor(ScheduledExecutorService executor) throws Exception {
             executor.shutdownNow();
             if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
@@ -69,6 +120,7 @@ public class ExecutorStressTests {
                 var actualInvocationNanos = ticker.readNanos();
                 var offsetNanos = actualInvocationNanos - nextInvocationNanos.get();
                 nextInvocationNanos.updateAndGet(x -> x + TimeUnit.MILLISECONDS.toNanos(rateMillis));
+                lagHistogram.record(offsetNanos);
                 LOG.printf(Level.INFO, "Schedule invoked at %,015dns with an offset of %,012dns", actualInvocationNanos, offsetNanos);
             }, 0, rateMillis, TimeUnit.MILLISECONDS);
 
@@ -92,7 +144,9 @@ public class ExecutorStressTests {
         @Override
         void run(ScheduledExecutorService executor) throws ExecutionException, InterruptedException {
             var t0 = ticker.readMillis();
-            var schedule = executor.schedule(() -> LOG.printf(Level.INFO, "running @ t=%sms", ticker.readMillis() - t0), 100, TimeUnit.MILLISECONDS);
+            var schedule = executor.schedule(
+                    recordingLag(100, 0, TimeUnit.MILLISECONDS, () -> LOG.printf(Level.INFO, "running @ t=%sms", ticker.readMillis() - t0)),
+                    100, TimeUnit.MILLISECONDS);
 
             for (int i = 0; i < 1000; i++) {
                 executor.execute(() -> ExecutorStressHelpers.milliSleep(1));
@@ -126,7 +180,7 @@ public class ExecutorStressTests {
             LOG.info("Submitting a schedule with a fixed rate of {} millis", periodMillis);
 
             var schedule = executor.scheduleAtFixedRate(
-                    () -> LOG.info("Executing task scheduled at rate of {} millis", periodMillis),
+                    recordingLag(0, periodMillis, TimeUnit.MILLISECONDS, () -> LOG.info("Executing task scheduled at rate of {} millis", periodMillis)),
                     0, periodMillis, TimeUnit.MILLISECONDS);
 
             waitForEnterToContinue();
@@ -140,12 +194,12 @@ public class ExecutorStressTests {
         void run(ScheduledExecutorService executor) throws Exception {
             var t0 = System.currentTimeMillis();
             var last = new AtomicLong(t0);
-            var schedule = executor.scheduleAtFixedRate(() -> {
+            var schedule = executor.scheduleAtFixedRate(recordingLag(100, 100, TimeUnit.MILLISECONDS, () -> {
                 var t = ticker.readMillis();
                 LOG.printf(Level.INFO, "running @ t=%sms, d=%s", t - t0, t - last.longValue());
                 last.set(t);
                 ExecutorStressHelpers.milliSleep(250);
-            }, 100, 100, TimeUnit.MILLISECONDS);
+            }), 100, 100, TimeUnit.MILLISECONDS);
 
             Thread.sleep(2000);
             schedule.cancel(false);
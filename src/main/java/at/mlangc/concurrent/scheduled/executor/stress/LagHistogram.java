@@ -0,0 +1,85 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LagHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long lagNanos) {
+        var value = Math.max(0, lagNanos);
+        counts.getAndIncrement(bucketOf(value));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long count() {
+        var count = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+
+        return count;
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    long valueAtPercentile(double percentile) {
+        var total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        var seen = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max());
+            }
+        }
+
+        return max();
+    }
+
+    String summary() {
+        return String.format("n=%d, p50=%s, p99=%s, p99.9=%s, max=%s",
+                count(),
+                formatNanos(valueAtPercentile(50)),
+                formatNanos(valueAtPercentile(99)),
+                formatNanos(valueAtPercentile(99.9)),
+                formatNanos(max()));
+    }
+
+    private static String formatNanos(long nanos) {
+        return ExecutorStressHelpers.formatNanos(nanos).strip();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        var mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + mantissa - SUB_BUCKETS;
+    }
+
+    static long highestValueIn(int bucket) {
+        var block = bucket / SUB_BUCKETS;
+        var subBucket = bucket % SUB_BUCKETS;
+        if (block == 0) {
+            return subBucket;
+        }
+
+        var shift = block - 1;
+        var upper = ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
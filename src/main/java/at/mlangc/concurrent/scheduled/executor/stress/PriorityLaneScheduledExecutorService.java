@@ -0,0 +1,347 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class PriorityLaneScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService, MeterBinder {
+    public enum Lane {
+        TIMED, SUBMITTED
+    }
+
+    private record Submission(Runnable command, long enqueuedNanos) { }
+
+    private final int batchSize;
+    private final DelayQueue<TimedTask<?>> timed = new DelayQueue<>();
+    private final ConcurrentLinkedQueue<Submission> submitted = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger submittedDepth = new AtomicInteger();
+    private final LagHistogram[] waitTimes = { new LagHistogram(), new LagHistogram() };
+    private final AtomicLong sequencer = new AtomicLong();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final AtomicInteger waitingWorkers = new AtomicInteger();
+
+    private final List<Thread> workers;
+    private final CountDownLatch terminated;
+    private volatile boolean shutdown;
+
+    public PriorityLaneScheduledExecutorService() {
+        this(1, 16);
+    }
+
+    public PriorityLaneScheduledExecutorService(int parallelism, int batchSize) {
+        checkArgument(parallelism > 0, "parallelism must be positive, but got %s", parallelism);
+        checkArgument(batchSize > 0, "batchSize must be positive, but got %s", batchSize);
+
+        this.batchSize = batchSize;
+        this.terminated = new CountDownLatch(parallelism);
+
+        var workers = new ArrayList<Thread>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(Thread.ofPlatform().name("priority-lane-worker-" + i).start(this::work));
+        }
+
+        this.workers = List.copyOf(workers);
+    }
+
+    public int depth(Lane lane) {
+        return switch (lane) {
+            case TIMED -> timed.size();
+            case SUBMITTED -> submittedDepth.get();
+        };
+    }
+
+    public String waitTimeSummary(Lane lane) {
+        return waitTimes[lane.ordinal()].summary();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var lane : Lane.values()) {
+            var laneTag = lane.name().toLowerCase(Locale.ROOT);
+            var histogram = waitTimes[lane.ordinal()];
+
+            Gauge.builder("executor.lane.depth", this, executor -> executor.depth(lane))
+                    .tag("lane", laneTag)
+                    .register(registry);
+
+            Gauge.builder("executor.lane.wait", histogram, h -> h.valueAtPercentile(50))
+                    .tags("lane", laneTag, "statistic", "p50")
+                    .baseUnit("nanoseconds")
+                    .register(registry);
+
+            Gauge.builder("executor.lane.wait", histogram, h -> h.valueAtPercentile(99))
+                    .tags("lane", laneTag, "statistic", "p99")
+                    .baseUnit("nanoseconds")
+                    .register(registry);
+
+            Gauge.builder("executor.lane.wait", histogram, LagHistogram::max)
+                    .tags("lane", laneTag, "statistic", "max")
+                    .baseUnit("nanoseconds")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new TimedTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        return enqueue(new TimedTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        checkArgument(period > 0, "period must be positive, but got %s", period);
+        return enqueue(new TimedTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        checkArgument(delay > 0, "delay must be positive, but got %s", delay);
+        return enqueue(new TimedTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        rejectIfShutdown();
+
+        submittedDepth.incrementAndGet();
+        submitted.add(new Submission(command, System.nanoTime()));
+        signalWorkAvailable();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (var task : timed) {
+            if (task.isPeriodic()) {
+                task.cancel(false);
+            }
+        }
+
+        signalWorkAvailable();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+
+        var neverRun = new ArrayList<Runnable>(timed);
+        timed.clear();
+
+        Submission submission;
+        while ((submission = submitted.poll()) != null) {
+            submittedDepth.decrementAndGet();
+            neverRun.add(submission.command());
+        }
+
+        workers.forEach(Thread::interrupt);
+        signalWorkAvailable();
+        return neverRun;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    }
+
+    private void rejectIfShutdown() {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+    }
+
+    private <V> TimedTask<V> enqueue(TimedTask<V> task) {
+        rejectIfShutdown();
+        timed.add(task);
+        signalWorkAvailable();
+        return task;
+    }
+
+    private void signalWorkAvailable() {
+        if (waitingWorkers.get() > 0) {
+            lock.lock();
+            try {
+                workAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void work() {
+        try {
+            while (true) {
+                runDueTimedTasks();
+                var ranSubmissions = runSubmittedBatch();
+
+                if (ranSubmissions == 0 && !hasDueTimedTask()) {
+                    if (shutdown && submitted.isEmpty() && timed.isEmpty()) {
+                        return;
+                    }
+
+                    awaitWork();
+                }
+            }
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private void runDueTimedTasks() {
+        TimedTask<?> task;
+        while ((task = timed.poll()) != null) {
+            waitTimes[Lane.TIMED.ordinal()].record(-task.getDelay(TimeUnit.NANOSECONDS));
+            task.run();
+        }
+    }
+
+    private int runSubmittedBatch() {
+        // Peeking locks the DelayQueue, so we only do it once per batch. Timed tasks that are scheduled while the batch
+        // is running wait for at most batchSize submissions.
+        var next = timed.peek();
+        var nextDelayNanos = next == null ? Long.MAX_VALUE : next.getDelay(TimeUnit.NANOSECONDS);
+        var batchStartNanos = System.nanoTime();
+
+        var ran = 0;
+        Submission submission;
+        while (ran < batchSize && System.nanoTime() - batchStartNanos < nextDelayNanos && (submission = submitted.poll()) != null) {
+            submittedDepth.decrementAndGet();
+            waitTimes[Lane.SUBMITTED.ordinal()].record(System.nanoTime() - submission.enqueuedNanos());
+            ran++;
+
+            try {
+                submission.command().run();
+            } catch (RuntimeException e) {
+                var thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+
+        return ran;
+    }
+
+    private boolean hasDueTimedTask() {
+        var next = timed.peek();
+        return next != null && next.getDelay(TimeUnit.NANOSECONDS) <= 0;
+    }
+
+    private void awaitWork() {
+        lock.lock();
+        try {
+            waitingWorkers.incrementAndGet();
+            try {
+                if (!submitted.isEmpty() || hasDueTimedTask()) {
+                    return;
+                }
+
+                var next = timed.peek();
+                if (next != null) {
+                    workAvailable.awaitNanos(next.getDelay(TimeUnit.NANOSECONDS));
+                } else if (!shutdown) {
+                    workAvailable.await();
+                }
+            } catch (InterruptedException e) {
+                // Only used to wake up workers on shutdownNow, so nothing to do here
+            } finally {
+                waitingWorkers.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private class TimedTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        // Positive for fixed rate, negative for fixed delay and zero for one shot tasks
+        private final long periodNanos;
+        private final long sequenceNumber = sequencer.getAndIncrement();
+        private volatile long deadlineNanos;
+
+        TimedTask(Callable<V> callable, long deadlineNanos, long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodNanos != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+                if (shutdown) {
+                    cancel(false);
+                } else {
+                    timed.add(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            var cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                timed.remove(this);
+            }
+
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+
+            if (other instanceof TimedTask<?> otherTask) {
+                var cmp = Long.compare(deadlineNanos - otherTask.deadlineNanos, 0);
+                return cmp != 0 ? cmp : Long.compare(sequenceNumber, otherTask.sequenceNumber);
+            }
+
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -3,7 +3,6 @@ package at.mlangc.concurrent.scheduled.executor.stress;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -11,6 +10,7 @@ import java.util.stream.IntStream;
 
 public class ScheduleUsingVirtualThreads {
     private static final Logger LOG = LogManager.getLogger(ScheduleUsingVirtualThreads.class);
+    private static final VirtualThreadScheduledExecutorService SCHEDULER = new VirtualThreadScheduledExecutorService();
 
     static void main() {
         var schedule = scheduleWithFixedDelayUsingVirtualThread(
@@ -47,22 +47,7 @@ public class ScheduleUsingVirtualThreads {
 
     static Schedule scheduleWithFixedDelayUsingVirtualThread(
             Runnable command, long initialDelay, long delay, TimeUnit unit) {
-        var cancelled = new AtomicBoolean();
-        var thread = Thread.ofVirtual().unstarted(() -> {
-            try {
-                Thread.sleep(Duration.of(initialDelay, unit.toChronoUnit()));
-
-                while (!cancelled.get()) {
-                    command.run();
-                    Thread.sleep(Duration.of(delay, unit.toChronoUnit()));
-                }
-            } catch (InterruptedException e) {
-                // Nothing to do, we are already terminating the thread
-            }
-        });
-
-        Schedule schedule = () -> cancelled.set(true);
-        thread.start();
-        return schedule;
+        var future = SCHEDULER.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        return () -> future.cancel(false);
     }
 }
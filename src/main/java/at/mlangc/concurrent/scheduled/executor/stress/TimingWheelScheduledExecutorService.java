@@ -0,0 +1,343 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class TimingWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickNanos;
+    private final ExecutorService worker;
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final ConcurrentLinkedQueue<WheelTask<?>> scheduled = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<WheelTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread ticker;
+    private final long startNanos;
+    private volatile boolean shutdown;
+    private long currentTick;
+
+    public TimingWheelScheduledExecutorService() {
+        this(1, TimeUnit.MILLISECONDS, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public TimingWheelScheduledExecutorService(long tickDuration, TimeUnit unit, ExecutorService worker) {
+        checkArgument(tickDuration > 0, "tickDuration must be positive, but got %s", tickDuration);
+
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.worker = worker;
+
+        for (var wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+
+        this.startNanos = System.nanoTime();
+        this.ticker = Thread.ofPlatform().daemon().name("timing-wheel-ticker").start(this::tickUntilShutdown);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(new WheelTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        return schedule(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        checkArgument(period > 0, "period must be positive, but got %s", period);
+        return schedule(new WheelTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        checkArgument(delay > 0, "delay must be positive, but got %s", delay);
+        return schedule(new WheelTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        worker.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(ticker);
+        worker.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        LockSupport.unpark(ticker);
+        return worker.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && !ticker.isAlive() && worker.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        var deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        if (!ticker.join(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())))) {
+            return false;
+        }
+
+        return worker.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    }
+
+    private <V> WheelTask<V> schedule(WheelTask<V> task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+
+        scheduled.add(task);
+        if (shutdown) {
+            task.cancel(false);
+        }
+
+        return task;
+    }
+
+    private void reschedule(WheelTask<?> task) {
+        scheduled.add(task);
+        if (shutdown) {
+            task.cancel(false);
+        }
+    }
+
+    private void tickUntilShutdown() {
+        while (!shutdown) {
+            var nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+            var remainingNanos = nextTickNanos - System.nanoTime();
+            if (remainingNanos > 0) {
+                LockSupport.parkNanos(this, remainingNanos);
+                continue;
+            }
+
+            unlinkCancelled();
+            insertScheduled();
+            currentTick++;
+            cascadeAndExpire();
+        }
+
+        cancelAll();
+    }
+
+    private void unlinkCancelled() {
+        WheelTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void insertScheduled() {
+        WheelTask<?> task;
+        while ((task = scheduled.poll()) != null) {
+            insert(task);
+        }
+    }
+
+    private void insert(WheelTask<?> task) {
+        if (task.isCancelled()) {
+            return;
+        }
+
+        var deadlineTick = Math.ceilDiv(task.deadlineNanos - startNanos, tickNanos);
+        var delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            dispatch(task);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (WHEEL_BITS * (level + 1))) {
+                wheels[level][(int) (deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK].add(task);
+                return;
+            }
+        }
+
+        // Too far in the future: park the task in the top level bucket that is cascaded last
+        var topLevel = LEVELS - 1;
+        wheels[topLevel][(int) ((currentTick >>> (WHEEL_BITS * topLevel)) - 1) & WHEEL_MASK].add(task);
+    }
+
+    private void cascadeAndExpire() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            var levelTicks = 1L << (WHEEL_BITS * level);
+            if (currentTick % levelTicks == 0) {
+                var task = wheels[level][(int) (currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK].removeAll();
+                while (task != null) {
+                    var next = task.next;
+                    task.next = null;
+                    insert(task);
+                    task = next;
+                }
+            }
+        }
+
+        var task = wheels[0][(int) currentTick & WHEEL_MASK].removeAll();
+        while (task != null) {
+            var next = task.next;
+            task.next = null;
+            dispatch(task);
+            task = next;
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        if (task.isCancelled()) {
+            return;
+        }
+
+        try {
+            worker.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    private void cancelAll() {
+        var remaining = new ArrayList<WheelTask<?>>();
+        for (var wheel : wheels) {
+            for (var bucket : wheel) {
+                for (var task = bucket.removeAll(); task != null; task = task.next) {
+                    remaining.add(task);
+                }
+            }
+        }
+
+        remaining.addAll(scheduled);
+        scheduled.clear();
+        remaining.forEach(task -> task.cancel(false));
+        cancelled.clear();
+    }
+
+    private static class Bucket {
+        WheelTask<?> head;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            task.prev = null;
+            task.next = head;
+
+            if (head != null) {
+                head.prev = task;
+            }
+
+            head = task;
+        }
+
+        void remove(WheelTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+
+            task.bucket = null;
+            task.prev = null;
+            task.next = null;
+        }
+
+        WheelTask<?> removeAll() {
+            var first = head;
+            head = null;
+
+            for (var task = first; task != null; task = task.next) {
+                task.bucket = null;
+                task.prev = null;
+            }
+
+            return first;
+        }
+    }
+
+    private class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        // Positive for fixed rate, negative for fixed delay and zero for one shot tasks
+        private final long periodNanos;
+        private volatile long deadlineNanos;
+
+        // Only accessed by the ticker thread
+        Bucket bucket;
+        WheelTask<?> prev;
+        WheelTask<?> next;
+
+        WheelTask(Callable<V> callable, long deadlineNanos, long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            if (periodNanos == 0) {
+                super.run();
+            } else if (runAndReset() && !shutdown) {
+                deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+                reschedule(this);
+            } else if (shutdown) {
+                cancel(false);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            var cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                TimingWheelScheduledExecutorService.this.cancelled.add(this);
+            }
+
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class VirtualThreadScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+    public enum CatchUpPolicy {
+        // Drop missed executions and wait for the next point on the original schedule
+        SKIP_MISSED,
+        // Run missed executions back to back, like ScheduledThreadPoolExecutor does
+        BURST,
+        // Run once for all missed executions and continue the schedule from there
+        COALESCE
+    }
+
+    private final CatchUpPolicy catchUpPolicy;
+    private final ExecutorService threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scheduled-", 0).factory());
+    private final Set<VirtualThreadTask<?>> periodicTasks = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadScheduledExecutorService() {
+        this(CatchUpPolicy.BURST);
+    }
+
+    public VirtualThreadScheduledExecutorService(CatchUpPolicy catchUpPolicy) {
+        this.catchUpPolicy = Objects.requireNonNull(catchUpPolicy);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return start(new VirtualThreadTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        return start(new VirtualThreadTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        checkArgument(period > 0, "period must be positive, but got %s", period);
+        return start(new VirtualThreadTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        checkArgument(delay > 0, "delay must be positive, but got %s", delay);
+        return start(new VirtualThreadTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        threads.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        threads.shutdown();
+        periodicTasks.forEach(task -> task.cancel(false));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        var neverStarted = threads.shutdownNow();
+        periodicTasks.forEach(task -> task.cancel(false));
+        return neverStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threads.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threads.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threads.awaitTermination(timeout, unit);
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    }
+
+    private <V> VirtualThreadTask<V> start(VirtualThreadTask<V> task) {
+        if (task.isPeriodic()) {
+            periodicTasks.add(task);
+        }
+
+        try {
+            threads.execute(task::runSchedule);
+        } catch (RejectedExecutionException e) {
+            periodicTasks.remove(task);
+            throw e;
+        }
+
+        return task;
+    }
+
+    private class VirtualThreadTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        // Positive for fixed rate, negative for fixed delay and zero for one shot tasks
+        private final long periodNanos;
+        private volatile long deadlineNanos;
+        private volatile Thread thread;
+
+        VirtualThreadTask(Callable<V> callable, long deadlineNanos, long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        boolean isPeriodic() {
+            return periodNanos != 0;
+        }
+
+        void runSchedule() {
+            thread = Thread.currentThread();
+
+            try {
+                while (sleepUntilDeadline()) {
+                    if (!isPeriodic()) {
+                        run();
+                        return;
+                    }
+
+                    if (!runAndReset()) {
+                        return;
+                    }
+
+                    deadlineNanos = nextDeadline(System.nanoTime());
+                }
+            } finally {
+                periodicTasks.remove(this);
+            }
+        }
+
+        private boolean sleepUntilDeadline() {
+            while (true) {
+                if (isDone()) {
+                    return false;
+                }
+
+                var remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return true;
+                }
+
+                LockSupport.parkNanos(this, remainingNanos);
+                if (Thread.interrupted()) {
+                    cancel(false);
+                    return false;
+                }
+            }
+        }
+
+        private long nextDeadline(long nowNanos) {
+            if (periodNanos < 0) {
+                return nowNanos - periodNanos;
+            }
+
+            var next = deadlineNanos + periodNanos;
+            if (next - nowNanos >= 0) {
+                return next;
+            }
+
+            return switch (catchUpPolicy) {
+                case BURST -> next;
+                case SKIP_MISSED -> next + Math.ceilDiv(nowNanos - next, periodNanos) * periodNanos;
+                case COALESCE -> nowNanos;
+            };
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            var cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                LockSupport.unpark(thread);
+            }
+
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
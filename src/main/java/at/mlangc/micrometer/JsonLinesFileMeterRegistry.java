@@ -0,0 +1,154 @@
+package at.mlangc.micrometer;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+import io.micrometer.core.instrument.util.NamedThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class JsonLinesFileMeterRegistry extends StepMeterRegistry {
+    private static final Logger LOG = LogManager.getLogger(JsonLinesFileMeterRegistry.class);
+
+    private final Path file;
+
+    public JsonLinesFileMeterRegistry(Path file, Duration step) {
+        this(file, step, Clock.SYSTEM);
+    }
+
+    public JsonLinesFileMeterRegistry(Path file, Duration step, Clock clock) {
+        super(newConfig(step), clock);
+        this.file = file;
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        start(new NamedThreadFactory("json-lines-file-meter-publisher"));
+    }
+
+    private static StepRegistryConfig newConfig(Duration step) {
+        return new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "jsonLinesFile";
+            }
+
+            @Override
+            public Duration step() {
+                return step;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        };
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    @Override
+    protected void publish() {
+        var timestamp = Instant.ofEpochMilli(clock.wallTime()).toString();
+        var lines = new StringBuilder();
+        for (Meter meter : getMeters()) {
+            appendJsonLine(lines, timestamp, meter);
+        }
+
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Failed to write meters to {}", file, e);
+        }
+    }
+
+    private void appendJsonLine(StringBuilder out, String timestamp, Meter meter) {
+        var id = meter.getId();
+        out.append("{\"timestamp\":\"").append(timestamp).append('"');
+        out.append(",\"name\":");
+        appendJsonString(out, getConventionName(id));
+        out.append(",\"type\":\"").append(id.getType().name().toLowerCase(Locale.ROOT)).append('"');
+
+        out.append(",\"tags\":{");
+        var first = true;
+        for (Tag tag : getConventionTags(id)) {
+            if (!first) {
+                out.append(',');
+            }
+
+            appendJsonString(out, tag.getKey());
+            out.append(':');
+            appendJsonString(out, tag.getValue());
+            first = false;
+        }
+
+        out.append('}');
+
+        for (Measurement measurement : meter.measure()) {
+            out.append(',');
+            appendJsonString(out, measurement.getStatistic().getTagValueRepresentation());
+            out.append(':');
+
+            var value = measurement.getValue();
+            if (Double.isFinite(value)) {
+                out.append(value);
+            } else {
+                out.append("null");
+            }
+        }
+
+        out.append("}\n");
+    }
+
+    private static void appendJsonString(StringBuilder out, String s) {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            var c = s.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+
+        out.append('"');
+    }
+
+    @Override
+    protected TimeUnit getBaseTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+}
@@ -1,6 +1,8 @@
 package at.mlangc.micrometer;
 
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.dynatrace.DynatraceApiVersion;
 import io.micrometer.dynatrace.DynatraceConfig;
 import io.micrometer.dynatrace.DynatraceMeterRegistry;
@@ -8,9 +10,16 @@ import org.jspecify.annotations.Nullable;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 
 public class MicrometerRegistryProvider {
+    public enum Backend {
+        DYNATRACE, SIMPLE, JSON_LINES_FILE
+    }
+
     private static final DynatraceConfig DYNATRACE_CONFIG = new DynatraceConfig() {
         @Override
         public DynatraceApiVersion apiVersion() {
@@ -52,4 +61,34 @@ public class MicrometerRegistryProvider {
     public static DynatraceMeterRegistry newDynatraceMeterRegistry() {
         return new DynatraceMeterRegistry(DYNATRACE_CONFIG, Clock.SYSTEM);
     }
+
+    public static SimpleMeterRegistry newSimpleMeterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    public static JsonLinesFileMeterRegistry newJsonLinesFileMeterRegistry() {
+        var file = Optional.ofNullable(System.getenv("MICROMETER_JSON_LINES_FILE")).orElse("metrics.jsonl");
+        return new JsonLinesFileMeterRegistry(Path.of(file), Duration.ofSeconds(1));
+    }
+
+    public static MeterRegistry newMeterRegistry() {
+        return newMeterRegistry(defaultBackend());
+    }
+
+    public static MeterRegistry newMeterRegistry(Backend backend) {
+        return switch (backend) {
+            case DYNATRACE -> newDynatraceMeterRegistry();
+            case SIMPLE -> newSimpleMeterRegistry();
+            case JSON_LINES_FILE -> newJsonLinesFileMeterRegistry();
+        };
+    }
+
+    private static Backend defaultBackend() {
+        var configured = System.getenv("MICROMETER_BACKEND");
+        if (configured != null) {
+            return Backend.valueOf(configured.toUpperCase(Locale.ROOT));
+        }
+
+        return System.getenv("DYNATRACE_TENANT_ID") != null ? Backend.DYNATRACE : Backend.SIMPLE;
+    }
 }
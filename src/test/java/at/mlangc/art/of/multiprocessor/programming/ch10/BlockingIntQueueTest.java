@@ -0,0 +1,175 @@
+package at.mlangc.art.of.multiprocessor.programming.ch10;
+
+import org.apache.commons.lang3.exception.UncheckedInterruptedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingIntQueueTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    enum QueueImpl {
+        CONCURRENT(ConcurrentUnboundedBlockingIntQueue::new),
+        CONCURRENT_PARK_IMMEDIATELY(() -> new ConcurrentUnboundedBlockingIntQueue(0));
+
+        final Supplier<BlockingIntQueue> ctor;
+
+        QueueImpl(Supplier<BlockingIntQueue> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void pollShouldTimeoutOnEmptyQueue(QueueImpl impl) {
+        var intQueue = impl.ctor.get();
+        assertThat(intQueue.poll(1, TimeUnit.MILLISECONDS)).isEqualTo(BlockingIntQueue.TIMED_OUT);
+        assertThat(intQueue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo(BlockingIntQueue.TIMED_OUT);
+
+        intQueue.enq(42);
+        assertThat(intQueue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo(42);
+
+        intQueue.enq(Integer.MIN_VALUE);
+        assertThat(intQueue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void takeShouldWaitForEnq(QueueImpl impl) throws InterruptedException {
+        var intQueue = impl.ctor.get();
+        var taken = CompletableFuture.supplyAsync(intQueue::take, executor);
+
+        Thread.sleep(10);
+        assertThat(taken).isNotDone();
+
+        intQueue.enq(42);
+        assertThat(taken).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo(42);
+    }
+
+    @Test
+    void takeShouldBeInterruptible() throws InterruptedException {
+        var intQueue = new ConcurrentUnboundedBlockingIntQueue();
+        var error = new AtomicReference<Throwable>();
+
+        var taker = Thread.ofPlatform().start(() -> {
+            try {
+                intQueue.take();
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+
+        Thread.sleep(10);
+        taker.interrupt();
+        taker.join(1000);
+
+        assertThat(taker.isAlive()).isFalse();
+        assertThat(error.get()).isInstanceOf(UncheckedInterruptedException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void takingConsumersShouldNotMissWakeups(QueueImpl impl) {
+        final var limit = 100_000;
+        final var producers = 2;
+        final var consumers = 4;
+        final var intQueue = impl.ctor.get();
+
+        IntFunction<Runnable> newProducer = id -> () -> {
+            for (int x = id; x < limit; x += producers) {
+                intQueue.enq(x);
+            }
+        };
+
+        Supplier<BitSet> consumer = () -> {
+            var seen = new BitSet(limit);
+            for (int i = 0; i < limit / consumers; i++) {
+                seen.set(intQueue.take());
+            }
+
+            return seen;
+        };
+
+        var consumerJobs = IntStream.range(0, consumers)
+                .mapToObj(ignore -> CompletableFuture.supplyAsync(consumer, executor))
+                .toList();
+
+        var producerJobs = IntStream.range(0, producers)
+                .mapToObj(newProducer)
+                .map(producer -> CompletableFuture.runAsync(producer, executor))
+                .toList();
+
+        assertThat(producerJobs).allSatisfy(job -> assertThat(job).succeedsWithin(1, TimeUnit.SECONDS));
+        assertThat(consumerJobs).allSatisfy(job -> assertThat(job).succeedsWithin(2, TimeUnit.SECONDS));
+
+        var seen = new BitSet(limit);
+        consumerJobs.forEach(job -> seen.or(job.join()));
+        assertThat(seen.cardinality()).isEqualTo(limit);
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void blockingConsumersShouldSeeAllElements(QueueImpl impl) {
+        final var limit = 100_000;
+        final var producers = 2;
+        final var consumers = 4;
+        final var intQueue = impl.ctor.get();
+
+        IntFunction<Runnable> newProducer = id -> () -> {
+            for (int x = id; x < limit; x += producers) {
+                intQueue.enq(x);
+            }
+        };
+
+        Supplier<BitSet> consumer = () -> {
+            var seen = new BitSet(limit);
+            long x;
+            while ((x = intQueue.poll(100, TimeUnit.MILLISECONDS)) != BlockingIntQueue.TIMED_OUT) {
+                assertThat(seen.get((int) x)).isFalse();
+                seen.set((int) x);
+            }
+
+            return seen;
+        };
+
+        var consumerJobs = IntStream.range(0, consumers)
+                .mapToObj(ignore -> CompletableFuture.supplyAsync(consumer, executor))
+                .toList();
+
+        var producerJobs = IntStream.range(0, producers)
+                .mapToObj(newProducer)
+                .map(producer -> CompletableFuture.runAsync(producer, executor))
+                .toList();
+
+        assertThat(producerJobs).allSatisfy(job -> assertThat(job).succeedsWithin(1, TimeUnit.SECONDS));
+        assertThat(consumerJobs).allSatisfy(job -> assertThat(job).succeedsWithin(2, TimeUnit.SECONDS));
+
+        var seen = new BitSet(limit);
+        for (CompletableFuture<BitSet> job : consumerJobs) {
+            var seenByJob = job.join();
+            assertThat(seen.intersects(seenByJob)).isFalse();
+            seen.or(seenByJob);
+        }
+
+        assertThat(seen.cardinality()).isEqualTo(limit);
+    }
+}
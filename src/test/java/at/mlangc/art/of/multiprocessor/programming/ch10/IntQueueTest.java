@@ -1,18 +1,24 @@
 package at.mlangc.art.of.multiprocessor.programming.ch10;
 
 import at.mlangc.art.of.multiprocessor.programming.ConcurrencyHelpers;
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -23,7 +29,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 class IntQueueTest {
     enum QueueImpl {
         LOCK_BASED(LockBasedUnboundedIntQueue::new),
-        CONCURRENT(ConcurrentUnboundedIntQueue::new);
+        CONCURRENT(ConcurrentUnboundedIntQueue::new),
+        CONCURRENT_WITH_BACKOFF(() -> new ConcurrentUnboundedIntQueue(SpinYieldParkBackoff::new)),
+        CONCURRENT_BLOCKING(ConcurrentUnboundedBlockingIntQueue::new),
+        CONCURRENT_BOUNDED(() -> new ConcurrentBoundedIntQueue(1 << 17)),
+        CONCURRENT_BOUNDED_PADDED(() -> new ConcurrentBoundedIntQueue(1 << 17, 8)),
+        CONCURRENT_BOUNDED_WITH_BACKOFF(() -> new ConcurrentBoundedIntQueue(1 << 17, 1, SpinYieldParkBackoff::new));
 
         final Supplier<IntQueue> ctor;
 
@@ -42,9 +53,15 @@ class IntQueueTest {
 
     record Enc(int x) implements Operation { }
 
+    record EncAll(List<Integer> xs) implements Operation { }
+
+    record DrainTo(int max) implements Operation { }
+
     private static Arbitrary<Operation> arbitraryOperation() {
         var arbEnc = Arbitraries.integers().between(0, 9).map(Enc::new);
-        return Arbitraries.oneOf(Arbitraries.just(new Deq()), arbEnc);
+        var arbEncAll = Arbitraries.integers().between(0, 9).list().ofMaxSize(5).map(EncAll::new);
+        var arbDrainTo = Arbitraries.integers().between(0, 5).map(DrainTo::new);
+        return Arbitraries.oneOf(Arbitraries.just(new Deq()), arbEnc, arbEncAll, arbDrainTo);
     }
 
     @Provide
@@ -68,6 +85,24 @@ class IntQueueTest {
             } else if (operation instanceof Enc(int x)) {
                 intQueue.enq(x);
                 arrDeque.addLast(x);
+            } else if (operation instanceof EncAll(List<Integer> xs)) {
+                var src = new int[xs.size() + 2];
+                for (int i = 0; i < xs.size(); i++) {
+                    src[i + 1] = xs.get(i);
+                }
+
+                intQueue.enqAll(src, 1, xs.size());
+                arrDeque.addAll(xs);
+            } else if (operation instanceof DrainTo(int max)) {
+                var dst = new int[max + 1];
+                var drained = intQueue.drainTo(dst, max);
+
+                var expected = new ArrayList<Integer>();
+                while (expected.size() < max && !arrDeque.isEmpty()) {
+                    expected.add(arrDeque.pollFirst());
+                }
+
+                assertThat(Arrays.stream(dst, 0, drained).boxed().toList()).isEqualTo(expected);
             }
         }
     }
@@ -190,4 +225,111 @@ class IntQueueTest {
         assertThat(seen.cardinality()).isEqualTo(totalItems);
         assertThat(seen.previousSetBit(Integer.MAX_VALUE)).isEqualTo(totalItems - 1);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8})
+    void boundedQueueShouldRejectElementsWhenFull(int width) {
+        var intQueue = new ConcurrentBoundedIntQueue(4, width);
+
+        for (int round = 0; round < 3; round++) {
+            for (int x = 0; x < intQueue.capacity(); x++) {
+                assertThat(intQueue.tryEnq(x)).isTrue();
+            }
+
+            assertThat(intQueue.tryEnq(42)).isFalse();
+
+            for (int x = 0; x < intQueue.capacity(); x++) {
+                assertThat(intQueue.deq()).isEqualTo(x);
+            }
+
+            assertThat(intQueue.tryDeq()).isNull();
+        }
+    }
+
+    @Test
+    void boundedQueueShouldApplyBackpressureOnEnq() {
+        final var limit = 100_000;
+        var intQueue = new ConcurrentBoundedIntQueue(16);
+
+        var enqJob = CompletableFuture.runAsync(() -> {
+            for (int x = 0; x < limit; x++) {
+                intQueue.enq(x);
+            }
+        });
+
+        var deqJob = CompletableFuture.runAsync(() -> {
+            for (int expected = 0; expected < limit; ) {
+                var x = intQueue.tryDeq();
+                if (x == null) {
+                    Thread.onSpinWait();
+                } else {
+                    assertThat(x).isEqualTo(expected++);
+                }
+            }
+        });
+
+        assertThat(enqJob).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(deqJob).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(intQueue.tryDeq()).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void enqueuingAndDrainingInBatchesConcurrentlyShouldWork(QueueImpl impl) {
+        final var batchSize = 64;
+        final var parallelism = 4;
+        final var totalItems = batchSize * parallelism * 250;
+        final var allEnqueued = new CountDownLatch(parallelism);
+        final var intQueue = impl.ctor.get();
+
+        IntFunction<Supplier<BitSet>> newJob = jobId -> () -> {
+            var seen = new BitSet(totalItems);
+            var src = new int[batchSize];
+            var dst = new int[batchSize];
+
+            IntConsumer processDrained = drained -> {
+                for (int i = 0; i < drained; i++) {
+                    assertThat(seen.get(dst[i])).isFalse();
+                    seen.set(dst[i]);
+                }
+            };
+
+            for (int x = jobId; x < totalItems; ) {
+                var len = 0;
+                for (; len < batchSize && x < totalItems; len++, x += parallelism) {
+                    src[len] = x;
+                }
+
+                intQueue.enqAll(src, 0, len);
+                processDrained.accept(intQueue.drainTo(dst, jobId + 1));
+            }
+
+            allEnqueued.countDown();
+            runSilently(allEnqueued::await);
+
+            int drained;
+            while ((drained = intQueue.drainTo(dst, batchSize)) > 0) {
+                processDrained.accept(drained);
+            }
+
+            return seen;
+        };
+
+        var jobs = IntStream.range(0, parallelism)
+                .mapToObj(newJob)
+                .map(CompletableFuture::supplyAsync)
+                .toList();
+
+        assertThat(jobs).allSatisfy(job ->
+                assertThat(job).succeedsWithin(1, TimeUnit.SECONDS));
+
+        var seen = new BitSet(totalItems);
+        for (CompletableFuture<BitSet> job : jobs) {
+            var seenFromJob = job.join();
+            assertThat(seen.intersects(seenFromJob)).isFalse();
+            seen.or(seenFromJob);
+        }
+
+        assertThat(seen.cardinality()).isEqualTo(totalItems);
+    }
+}
@@ -1,6 +1,9 @@
 package at.mlangc.art.of.multiprocessor.programming.ch11;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
 import net.jqwik.api.*;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -10,6 +13,8 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
@@ -17,17 +22,26 @@ import java.util.stream.IntStream;
 
 import static at.mlangc.art.of.multiprocessor.programming.ConcurrencyHelpers.runSilently;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assumptions.assumeThat;
 
 class IntStackTest {
     enum StackImpl {
         CONCURRENT(ConcurrentIntStack::new),
+        CONCURRENT_WITH_SPIN_YIELD_PARK_BACKOFF(() -> new ConcurrentIntStack(SpinYieldParkBackoff::new)),
         CONCURRENT_WITH_LOCK_BASED_EXCHANGER(() -> new ConcurrentExchangerEnhancedStack(new LockBasedIntExchanger())),
         CONCURRENT_WITH_LOCK_FREE_EXCHANGER(() -> new ConcurrentExchangerEnhancedStack(new LockFreeIntExchanger())),
         CONCURRENT_WITH_ELIMINATION_ARRAY(() -> new ConcurrentExchangerEnhancedStack(new EliminationArrayIntExchanger(
                 Runtime.getRuntime().availableProcessors() / 2,
                 LockFreeIntExchanger::new,
                 p -> new EliminationArrayIntExchanger.RangePolicy.Adaptive(1.1f, p)))),
-        CONCURRENT_WITH_JDK_EXCHANGER(() -> new ConcurrentExchangerEnhancedStack(new JavaUtilConcurrentIntExchanger()));
+        CONCURRENT_WITH_JDK_EXCHANGER(() -> new ConcurrentExchangerEnhancedStack(new JavaUtilConcurrentIntExchanger())),
+        POOLED(() -> new PooledConcurrentIntStack(1 << 19)),
+        ELIMINATION_BACKOFF(EliminationBackoffIntStack::new),
+        ELIMINATION_BACKOFF_CONSTANT_TIMEOUT(() -> new EliminationBackoffIntStack(
+                2,
+                p -> new EliminationArrayIntExchanger.RangePolicy.Constant(p),
+                () -> new EliminationBackoffIntStack.TimeoutPolicy.Constant(1, TimeUnit.MICROSECONDS)));
 
         final Supplier<IntStack> ctor;
 
@@ -139,4 +153,92 @@ class IntStackTest {
         assertThat(seen.cardinality()).isEqualTo(pushesTotal);
         assertThat(seen.previousSetBit(Integer.MAX_VALUE)).isEqualTo(pushesTotal - 1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void pooledStackShouldRejectPushesWhenFull() {
+        var intStack = new PooledConcurrentIntStack(3);
+
+        for (int round = 0; round < 3; round++) {
+            for (int x = 0; x < intStack.capacity(); x++) {
+                intStack.push(x);
+            }
+
+            assertThatIllegalStateException().isThrownBy(() -> intStack.push(42));
+
+            for (int x = intStack.capacity() - 1; x >= 0; x--) {
+                assertThat(intStack.pop()).isEqualTo(x);
+            }
+
+            assertThat(intStack.tryPop()).isNull();
+        }
+    }
+    @Test
+    void adaptiveTimeoutPolicyShouldGrowOnCollisionsAndShrinkOnlyWhenIdle() {
+        var policy = new EliminationBackoffIntStack.TimeoutPolicy.Adaptive(2, 100, 1_000, 8_000);
+        assertThat(policy.getTimeoutNanos()).isEqualTo(1_000);
+
+        policy.recordCollision();
+        assertThat(policy.getTimeoutNanos()).isEqualTo(2_000);
+
+        for (int i = 0; i < 10; i++) {
+            policy.recordCollision();
+        }
+
+        assertThat(policy.getTimeoutNanos()).isEqualTo(8_000);
+
+        for (int i = 0; i < 10; i++) {
+            policy.recordIdle();
+        }
+
+        assertThat(policy.getTimeoutNanos()).isEqualTo(100);
+
+        policy.recordSuccess();
+        assertThat(policy.getTimeoutNanos()).isEqualTo(200);
+    }
+
+    @Test
+    void eliminationBackoffStackShouldEliminatePushesAndPops() {
+        // Without a second core, a thread hardly ever gets preempted while waiting in the exchanger
+        assumeThat(Runtime.getRuntime().availableProcessors()).isGreaterThan(1);
+
+        var eliminations = new LongAdder();
+        var intStack = new EliminationBackoffIntStack(
+                1,
+                p -> new EliminationArrayIntExchanger.RangePolicy.Constant(p),
+                () -> new EliminationBackoffIntStack.TimeoutPolicy.Adaptive(1.5f, 100, 1_000, 50_000) {
+                    @Override
+                    public void recordSuccess() {
+                        super.recordSuccess();
+                        eliminations.increment();
+                    }
+                });
+
+        var stop = new AtomicBoolean();
+        var pushJobs = IntStream.range(0, 4)
+                .mapToObj(x -> CompletableFuture.runAsync(() -> {
+                    while (!stop.get()) {
+                        intStack.push(x);
+                    }
+                }))
+                .toList();
+
+        var popJobs = IntStream.range(0, 4)
+                .mapToObj(ignore -> CompletableFuture.runAsync(() -> {
+                    while (!stop.get()) {
+                        intStack.tryPop();
+                    }
+                }))
+                .toList();
+
+        try {
+            Awaitility.await()
+                    .atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(eliminations.sum()).isPositive());
+        } finally {
+            stop.set(true);
+        }
+
+        assertThat(pushJobs).allSatisfy(job -> assertThat(job).succeedsWithin(1, TimeUnit.SECONDS));
+        assertThat(popJobs).allSatisfy(job -> assertThat(job).succeedsWithin(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,44 @@
+package at.mlangc.art.of.multiprocessor.programming.ch7;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class SpinYieldParkBackoffTest {
+    @Test
+    void spinsShouldNotOverflowAtTheMaximum() {
+        var maxSpins = 1 << 30;
+        var currentSpins = 1;
+        var steps = 0;
+
+        while (currentSpins <= maxSpins) {
+            currentSpins = SpinYieldParkBackoff.nextSpins(currentSpins, maxSpins);
+            assertThat(currentSpins).isPositive();
+            steps++;
+        }
+
+        assertThat(steps).isEqualTo(31);
+        assertThat(currentSpins).isEqualTo(maxSpins + 1);
+    }
+
+    @Test
+    void spinsShouldStopRightAfterOddMaximums() {
+        assertThat(SpinYieldParkBackoff.nextSpins(512, 1000)).isEqualTo(1001);
+        assertThat(SpinYieldParkBackoff.nextSpins(500, 1000)).isEqualTo(1000);
+        assertThat(SpinYieldParkBackoff.nextSpins(1, 0)).isEqualTo(1);
+    }
+
+    @Test
+    void backoffShouldWorkThroughAllPhases() {
+        var backoff = new SpinYieldParkBackoff(1 << 10, 2, Duration.ofNanos(1_000), Duration.ofNanos(10_000));
+
+        assertThatNoException().isThrownBy(() -> {
+            for (int i = 0; i < 32; i++) {
+                backoff.backoff();
+            }
+        });
+    }
+}
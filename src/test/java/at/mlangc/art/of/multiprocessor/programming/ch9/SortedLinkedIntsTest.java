@@ -2,9 +2,11 @@ package at.mlangc.art.of.multiprocessor.programming.ch9;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.IntRange;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.TreeSet;
@@ -18,6 +20,22 @@ import java.util.function.Supplier;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SortedLinkedIntsTest {
+    enum Impl {
+        COARSE_GRAINED(CoarseGrainedSortedLinkedInts::new),
+        FINE_GRAINED(FineGrainedSortedLinkedInts::new),
+        OPTIMISTIC(OptimisticSortedLinkedInts::new),
+        LAZY(LazySortedLinkedInts::new),
+        CONCURRENT(ConcurrentSortedLinkedInts::new),
+        MARKER_NODE(MarkerNodeSortedLinkedInts::new),
+        CONCURRENT_SKIP_LIST(ConcurrentSkipListInts::new);
+
+        final Supplier<SortedLinkedInts> ctor;
+
+        Impl(Supplier<SortedLinkedInts> ctor) {
+            this.ctor = ctor;
+        }
+    }
+
     sealed interface Operation {
         boolean apply(SortedLinkedInts linkedInts);
     }
@@ -43,25 +61,28 @@ class SortedLinkedIntsTest {
         }
     }
 
-    @Test
-    void concurrentSortedLinkedIntsShouldWorkInExample1() {
-        var linkedInts = new ConcurrentSortedLinkedInts();
+    @ParameterizedTest
+    @EnumSource
+    void shouldWorkInExample1(Impl impl) {
+        var linkedInts = impl.ctor.get();
         assertThat(linkedInts.add(0)).isTrue();
         assertThat(linkedInts.add(0)).isFalse();
         assertThat(linkedInts.add(1)).isTrue();
         assertThat(linkedInts.add(0)).isFalse();
     }
 
-    @Test
-    void concurrentSortedLinkedIntsShouldWorkInExample2() {
-        var linkedInts = new ConcurrentSortedLinkedInts();
+    @ParameterizedTest
+    @EnumSource
+    void shouldWorkInExample2(Impl impl) {
+        var linkedInts = impl.ctor.get();
         assertThat(linkedInts.remove(0)).isFalse();
         assertThat(linkedInts.remove(0)).isFalse();
     }
 
-    @Test
-    void concurrentSortedLinkedIntsShouldWorkInExample3() {
-        var linkedInts = new ConcurrentSortedLinkedInts();
+    @ParameterizedTest
+    @EnumSource
+    void shouldWorkInExample3(Impl impl) {
+        var linkedInts = impl.ctor.get();
         assertThat(linkedInts.add(0)).isTrue();
         assertThat(linkedInts.add(0)).isFalse();
         assertThat(linkedInts.remove(0)).isTrue();
@@ -69,9 +90,11 @@ class SortedLinkedIntsTest {
     }
 
     @Property
-    void implementationsShouldBeConsistentForSingleThread(@ForAll("arbitraryOperations") List<Operation> operations) {
+    void implementationsShouldBeConsistentForSingleThread(
+            @ForAll("arbitraryOperations") List<Operation> operations,
+            @ForAll Impl impl) {
         var treeSet = new SynchronizedTreeSet();
-        var concurrentInts = new ConcurrentSortedLinkedInts();
+        var concurrentInts = impl.ctor.get();
 
         for (int i = 0; i < operations.size(); i++) {
             var operation = operations.get(i);
@@ -82,8 +105,10 @@ class SortedLinkedIntsTest {
     }
 
     @Property
-    void addingAndRemovingOddEvenConcurrentlyWorks(@ForAll @IntRange(min = 1, max = 1000) int numElems) {
-        var linkedInts = new ConcurrentSortedLinkedInts();
+    void addingAndRemovingOddEvenConcurrentlyWorks(
+            @ForAll @IntRange(min = 1, max = 1000) int numElems,
+            @ForAll Impl impl) {
+        var linkedInts = impl.ctor.get();
 
         IntFunction<Runnable> addWithParity = parity -> () -> {
             IntFunction<Supplier<String>> desc = x -> () -> String.format("numElems=%s, ctx=add, parity=%s, x=%s", numElems, parity, x);
@@ -122,12 +147,70 @@ class SortedLinkedIntsTest {
         assertThat(removeOddJob).succeedsWithin(1, TimeUnit.SECONDS);
     }
 
+    @Property
+    void navigableOperationsShouldBeConsistentWithTreeSet(
+            @ForAll("arbitraryOperations") List<Operation> operations,
+            @ForAll List<@IntRange(min = -50, max = 50) Integer> toAddAll,
+            @ForAll @IntRange(min = -60, max = 60) int from,
+            @ForAll @IntRange(min = 0, max = 60) int length) {
+        var treeSet = new TreeSet<Integer>();
+        var linkedInts = new ConcurrentSortedLinkedInts();
+
+        for (var operation : operations) {
+            switch (operation) {
+                case Add(var x) -> treeSet.add(x);
+                case Remove(var x) -> treeSet.remove(x);
+                case Contains ignore -> { }
+            }
+
+            operation.apply(linkedInts);
+        }
+
+        var sorted = toAddAll.stream().mapToInt(Integer::intValue).sorted().toArray();
+        var expectedAdded = (int) Arrays.stream(sorted).filter(treeSet::add).count();
+        assertThat(linkedInts.addAll(sorted)).isEqualTo(expectedAdded);
+        assertThat(linkedInts.size()).isEqualTo(treeSet.size());
+
+        var inRange = new ArrayList<Integer>();
+        linkedInts.forEachInRange(from, from + length, inRange::add);
+        assertThat(inRange).containsExactlyElementsOf(treeSet.subSet(from, from + length));
+
+        assertThat(linkedInts.ceiling(from)).isEqualTo(treeSet.ceiling(from));
+        assertThat(linkedInts.floor(from)).isEqualTo(treeSet.floor(from));
+    }
+
+    @Property(tries = 20)
+    void addingAllConcurrentlyShouldNotLoseElements(
+            @ForAll @IntRange(min = 1, max = 8) int parallelism,
+            @ForAll @IntRange(min = 1, max = 500) int runLength) {
+        var linkedInts = new ConcurrentSortedLinkedInts();
+
+        var jobs = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < parallelism; i++) {
+            var offset = i;
+            var run = new int[runLength];
+            for (int j = 0; j < runLength; j++) {
+                run[j] = j * parallelism + offset;
+            }
+
+            jobs.add(CompletableFuture.supplyAsync(() -> linkedInts.addAll(run)));
+        }
+
+        assertThat(jobs).allSatisfy(job -> assertThat(job).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo(runLength));
+        assertThat(linkedInts.size()).isEqualTo(parallelism * runLength);
+
+        var seen = new ArrayList<Integer>();
+        linkedInts.forEachInRange(0, parallelism * runLength, seen::add);
+        assertThat(seen).hasSize(parallelism * runLength).isSorted();
+    }
+
     record AddRemoveInPairsConcurrencyTestCase(List<List<Integer>> concurrentOps) {}
 
     @Property
     void addingAndRemovingInPairsConcurrentlyShouldResultInEmptyCollection(
-            @ForAll("arbitraryAddRemoveInPairsConcurrencyTestCase") AddRemoveInPairsConcurrencyTestCase testCase) {
-        var linkedInts = new ConcurrentSortedLinkedInts();
+            @ForAll("arbitraryAddRemoveInPairsConcurrencyTestCase") AddRemoveInPairsConcurrencyTestCase testCase,
+            @ForAll Impl impl) {
+        var linkedInts = impl.ctor.get();
 
         Function<List<Integer>, Runnable> runAddRemove = pairs -> () -> {
             var seen = new HashSet<Integer>();
@@ -158,7 +241,8 @@ class SortedLinkedIntsTest {
     void addingAndRemovingShouldLeaveCollectionInConsistentState(
             @ForAll @IntRange(min = 10, max = 101) int limit,
             @ForAll @IntRange(min = 2, max = 9) int selector,
-            @ForAll boolean invert
+            @ForAll boolean invert,
+            @ForAll Impl impl
     ) throws InterruptedException {
         // Idea:
         //  * one thread adds numbers in [0, limit)
@@ -166,7 +250,7 @@ class SortedLinkedIntsTest {
         //  * after a short delay, the adder thread is stopped
         //  * after yet another delay, the remover threads are stopped
         //  * now we can verify, that the collection contains exactly the expected elements
-        var linkedInts = new ConcurrentSortedLinkedInts();
+        var linkedInts = impl.ctor.get();
         AtomicBoolean stopDeleter = new AtomicBoolean();
         AtomicBoolean stopAdder = new AtomicBoolean();
         try {
@@ -2,10 +2,12 @@ package at.mlangc.benchmarks;
 
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -39,12 +41,20 @@ class SlottedCounterImplsTest {
         }
     }
 
+    static class SlottedCounterUsingAtomicArrayThreadAffine extends SlottedCounterImpls.SlottedCounterUsingAtomicArray {
+        SlottedCounterUsingAtomicArrayThreadAffine(int numSlots) {
+            super(numSlots, 8, Mode.THREAD_AFFINE);
+        }
+    }
+
     static List<SlottedCounterFactory> slottedCounterFactories() {
         return List.of(
                 new SlottedCounterFactory(SlottedCounterImpls.SlottedCounterUsingRentrantLock.class, SlottedCounterImpls.SlottedCounterUsingRentrantLock::new),
                 new SlottedCounterFactory(SlottedCounterImpls.SlottedCounterUsingAtomicGuard.class, SlottedCounterImpls.SlottedCounterUsingAtomicGuard::new),
                 new SlottedCounterFactory(SlottedCounterUsingAtomicArrayW1.class, SlottedCounterUsingAtomicArrayW1::new),
-                new SlottedCounterFactory(SlottedCounterUsingAtomicArrayW8.class, SlottedCounterUsingAtomicArrayW8::new)
+                new SlottedCounterFactory(SlottedCounterUsingAtomicArrayW8.class, SlottedCounterUsingAtomicArrayW8::new),
+                new SlottedCounterFactory(SlottedCounterUsingAtomicArrayThreadAffine.class, SlottedCounterUsingAtomicArrayThreadAffine::new),
+                new SlottedCounterFactory(SlottedCounterImpls.SlottedCounterUsingStripedCells.class, numSlots -> new SlottedCounterImpls.SlottedCounterUsingStripedCells(numSlots, numSlots))
         );
     }
 
@@ -90,6 +100,63 @@ class SlottedCounterImplsTest {
         assertThat(slottedCounter.sum()).isEqualTo(longAdder.sum());
     }
 
+    @ParameterizedTest
+    @MethodSource("consistencyTestCases")
+    void sumThenResetShouldNotLoseIncrements(ConsistencyTestCase testCase) {
+        var longAdder = new LongAdder();
+        var slottedCounter = testCase.factory.ctor.apply(testCase.numSlots);
+
+        Runnable incrementUntilStopped = () -> {
+            while (!stop) {
+                longAdder.increment();
+                slottedCounter.increment();
+            }
+        };
+
+        var jobs = IntStream.range(0, testCase.numThreads)
+                .mapToObj(ignore -> CompletableFuture.runAsync(incrementUntilStopped, executor))
+                .toArray(CompletableFuture<?>[]::new);
+
+        var harvested = 0L;
+        while (longAdder.sum() < 10_000) {
+            harvested += slottedCounter.sumThenReset();
+        }
+
+        stop = true;
+        assertThat(CompletableFuture.allOf(jobs)).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(harvested + slottedCounter.sumThenReset()).isEqualTo(longAdder.sum());
+        assertThat(slottedCounter.snapshot()).containsOnly(0L);
+    }
+
+    @Test
+    void snapshotShouldReportOneCountPerSlot() {
+        var slottedCounter = new SlottedCounterImpls.SlottedCounterUsingAtomicArray(4, 8);
+        for (int i = 0; i < 1000; i++) {
+            slottedCounter.increment();
+        }
+
+        // Without contention, a linear scan always claims the first slot
+        assertThat(slottedCounter.snapshot()).containsExactly(1000, 0, 0, 0);
+
+        var scratch = new long[2];
+        assertThat(slottedCounter.sumInto(scratch)).isEqualTo(1000);
+        assertThat(scratch).containsExactly(1000, 0);
+    }
+
+    @Test
+    void snapshotShouldReportOverflowCellAfterSlots() {
+        var slottedCounter = new SlottedCounterImpls.SlottedCounterUsingAtomicArray(4, 8, SlottedCounterImpls.SlottedCounterUsingAtomicArray.Mode.THREAD_AFFINE);
+        for (int i = 0; i < 1000; i++) {
+            slottedCounter.increment();
+        }
+
+        // Without contention, a thread always sticks to its initial slot, and nothing overflows
+        var snapshot = slottedCounter.snapshot();
+        assertThat(snapshot).hasSize(5).containsOnlyOnce(1000).endsWith(0);
+        assertThat(Arrays.stream(snapshot).filter(count -> count == 0)).hasSize(4);
+        assertThat(slottedCounter.sum()).isEqualTo(1000);
+    }
+
     @AfterEach
     void afterEach() throws InterruptedException {
         stop = true;
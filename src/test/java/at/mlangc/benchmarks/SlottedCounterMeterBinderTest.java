@@ -0,0 +1,27 @@
+package at.mlangc.benchmarks;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlottedCounterMeterBinderTest {
+    @Test
+    void shouldExposeSumOfSlottedCounterAtScrapeTime() {
+        var registry = new SimpleMeterRegistry();
+        var slottedCounter = new SlottedCounterImpls.SlottedCounterUsingStripedCells(8);
+        new SlottedCounterMeterBinder("events", List.of(Tag.of("source", "test")), slottedCounter).bindTo(registry);
+
+        var functionCounter = registry.get("events").tag("source", "test").functionCounter();
+        assertThat(functionCounter.count()).isZero();
+
+        for (int i = 0; i < 42; i++) {
+            slottedCounter.increment();
+        }
+
+        assertThat(functionCounter.count()).isEqualTo(42.0);
+    }
+}
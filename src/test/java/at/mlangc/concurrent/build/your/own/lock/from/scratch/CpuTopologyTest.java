@@ -0,0 +1,61 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CpuTopologyTest {
+    @TempDir
+    Path nodesDir;
+
+    @Test
+    void shouldParseCpuLists() {
+        assertThat(CpuTopology.parseCpuList("0")).containsExactly(0);
+        assertThat(CpuTopology.parseCpuList("0-3,8-9,12\n")).containsExactly(0, 1, 2, 3, 8, 9, 12);
+        assertThat(CpuTopology.parseCpuList("\n")).isEmpty();
+        assertThatIllegalArgumentException().isThrownBy(() -> CpuTopology.parseCpuList("3-1"));
+    }
+
+    @Test
+    void shouldReadNodesFromSysFs() throws IOException {
+        writeCpuList("node0", "0-1,4-5");
+        writeCpuList("node2", "2-3,6-7");
+        Files.createDirectories(nodesDir.resolve("power"));
+
+        var topology = CpuTopology.fromSysFs(nodesDir);
+        assertThat(topology.numClusters()).isEqualTo(2);
+        assertThat(topology.clusterOfCurrentThread()).isBetween(0, 1);
+    }
+
+    @Test
+    void shouldRejectSysFsWithoutNodes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CpuTopology.fromSysFs(nodesDir));
+    }
+
+    @Test
+    void shouldMapSparseNodeIdsToDenseClusters() {
+        var topology = CpuTopology.of(new int[] {3, 3, 7, 7});
+        assertThat(topology.numClusters()).isEqualTo(2);
+        assertThat(topology.clusterOfCurrentThread()).isBetween(0, 1);
+    }
+
+    @Test
+    void hashingThreadIdsShouldAlwaysMapToTheSameCluster() {
+        var topology = CpuTopology.hashingThreadIds(4);
+        assertThat(topology.numClusters()).isEqualTo(4);
+        assertThat(topology.clusterOfCurrentThread())
+                .isBetween(0, 3)
+                .isEqualTo(topology.clusterOfCurrentThread());
+    }
+
+    private void writeCpuList(String node, String cpuList) throws IOException {
+        var nodeDir = Files.createDirectories(nodesDir.resolve(node));
+        Files.writeString(nodeDir.resolve("cpulist"), cpuList + "\n");
+    }
+}
@@ -0,0 +1,198 @@
+package at.mlangc.concurrent.build.your.own.lock.from.scratch;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DistributedReadWriteLockTest {
+    static ExecutorService executor;
+
+    @BeforeAll
+    static void beforeAll() {
+        executor = Executors.newCachedThreadPool(Thread.ofPlatform().daemon().factory());
+    }
+
+    @AfterAll
+    static void afterAll() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void readersShouldBeAbleToHoldTheLockConcurrently() {
+        var lock = new DistributedReadWriteLock(4);
+        var numReaders = 4;
+        var allReading = new CountDownLatch(numReaders);
+
+        CompletableFuture<?>[] readers = IntStream.range(0, numReaders)
+                .mapToObj(_ -> CompletableFuture.runAsync(() -> lock.readLock().runWithLock(() -> {
+                    allReading.countDown();
+
+                    try {
+                        assertThat(allReading.await(5, TimeUnit.SECONDS)).isTrue();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }), executor))
+                .toArray(CompletableFuture[]::new);
+
+        assertThat(CompletableFuture.allOf(readers)).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void optimisticReadsShouldBeInvalidatedByWrites() {
+        var lock = new DistributedReadWriteLock(1);
+
+        var stamp = lock.tryOptimisticRead();
+        assertThat(lock.validate(stamp)).isTrue();
+
+        lock.writeLock().lock();
+        assertThat(lock.validate(stamp)).isFalse();
+        assertThat(lock.validate(lock.tryOptimisticRead())).isFalse();
+        lock.writeLock().unlock();
+
+        assertThat(lock.validate(stamp)).isFalse();
+        assertThat(lock.validate(lock.tryOptimisticRead())).isTrue();
+    }
+
+    @Test
+    void writeLockShouldRejectReentryAndForeignUnlocks() {
+        var lock = new DistributedReadWriteLock(1);
+
+        assertThatThrownBy(() -> lock.writeLock().unlock()).isInstanceOf(IllegalMonitorStateException.class);
+        assertThat(lock.validate(lock.tryOptimisticRead())).isTrue();
+
+        lock.writeLock().lock();
+        assertThatThrownBy(() -> lock.writeLock().lock()).isInstanceOf(IllegalMonitorStateException.class);
+        assertThat(CompletableFuture.runAsync(() -> lock.writeLock().unlock(), executor))
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableThat()
+                .withCauseInstanceOf(IllegalMonitorStateException.class);
+        assertThat(lock.validate(lock.tryOptimisticRead())).isFalse();
+        lock.writeLock().unlock();
+
+        assertThat(lock.validate(lock.tryOptimisticRead())).isTrue();
+        assertThat(CompletableFuture.runAsync(() -> lock.writeLock().runWithLock(() -> { }), executor))
+                .succeedsWithin(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void writeTryLockShouldFailAndRollBackWhileReadersAreActive() throws InterruptedException {
+        var lock = new DistributedReadWriteLock(4);
+        var reading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var reader = CompletableFuture.runAsync(() -> lock.readLock().runWithLock(() -> {
+            reading.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }), executor);
+
+        reading.await();
+        var stamp = lock.tryOptimisticRead();
+        assertThat(lock.writeLock().tryLock()).isFalse();
+        assertThat(lock.writeLock().tryLock(10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(lock.validate(stamp)).isTrue();
+
+        assertThat(lock.readLock().tryLock()).isTrue();
+        lock.readLock().unlock();
+
+        release.countDown();
+        assertThat(reader).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(lock.writeLock().tryLock(1, TimeUnit.SECONDS)).isTrue();
+        lock.writeLock().unlock();
+        assertThat(lock.writeLock().tryLock()).isTrue();
+        lock.writeLock().unlock();
+    }
+
+    @Test
+    void readTryLockShouldFailWhileWriterIsActive() throws InterruptedException {
+        var lock = new DistributedReadWriteLock(4);
+        lock.writeLock().lock();
+
+        assertThat(CompletableFuture.supplyAsync(() -> lock.readLock().tryLock(), executor))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .isEqualTo(false);
+        assertThat(CompletableFuture.supplyAsync(() -> {
+            try {
+                return lock.readLock().tryLock(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor)).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo(false);
+        assertThat(CompletableFuture.supplyAsync(() -> lock.writeLock().tryLock(), executor))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .isEqualTo(false);
+
+        lock.writeLock().unlock();
+        assertThat(lock.readLock().tryLock(1, TimeUnit.SECONDS)).isTrue();
+        lock.readLock().unlock();
+    }
+
+    @Test
+    void readersShouldNeverSeePartialWrites() {
+        var lock = new DistributedReadWriteLock(4);
+        var shared = new Object() {
+            long x;
+            long y;
+        };
+
+        var inconsistentReads = new AtomicLong();
+        var validOptimisticReads = new AtomicLong();
+        final var opsPerThread = 25_000;
+        final var numThreads = 8;
+
+        CompletableFuture<?>[] jobs = IntStream.range(0, numThreads)
+                .mapToObj(_ -> CompletableFuture.runAsync(() -> {
+                    var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        var op = random.nextInt(10);
+                        if (op == 0) {
+                            lock.writeLock().runWithLock(() -> {
+                                shared.x++;
+                                shared.y++;
+                            });
+                        } else if (op < 5) {
+                            lock.readLock().runWithLock(() -> {
+                                if (shared.x != shared.y) {
+                                    inconsistentReads.incrementAndGet();
+                                }
+                            });
+                        } else {
+                            var stamp = lock.tryOptimisticRead();
+                            var x = shared.x;
+                            var y = shared.y;
+
+                            if (lock.validate(stamp)) {
+                                validOptimisticReads.incrementAndGet();
+                                if (x != y) {
+                                    inconsistentReads.incrementAndGet();
+                                }
+                            }
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        assertThat(CompletableFuture.allOf(jobs)).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(inconsistentReads).hasValue(0);
+        assertThat(validOptimisticReads.get()).isPositive();
+        assertThat(shared.x).isEqualTo(shared.y);
+    }
+}
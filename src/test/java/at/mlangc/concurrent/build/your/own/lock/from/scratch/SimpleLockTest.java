@@ -1,15 +1,22 @@
 package at.mlangc.concurrent.build.your.own.lock.from.scratch;
 
+import at.mlangc.art.of.multiprocessor.programming.ch7.SpinYieldParkBackoff;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -34,12 +41,19 @@ class SimpleLockTest {
         JAVA_UTIL_REENTRANT_LOCK(JavaUtilConcurrentReentrantLock::new),
         COMPARE_AND_SET_LOCK(CompareAndSetLock::new),
         GET_AND_SET_LOCK(GetAndSetLock::new),
+        REENTRANT_GET_AND_SET_LOCK(ReentrantGetAndSetLock::new),
         REENTRANT_GET_AND_SET_LOCK_WITH_BACKOFF(ReentrantGetAndSetLockWithBackoff::new),
+        REENTRANT_GET_AND_SET_LOCK_WITH_SPIN_YIELD_PARK_BACKOFF(() -> new ReentrantGetAndSetLockWithBackoff(SpinYieldParkBackoff::new)),
         CLH_QUEUE_LOCK(ClhQueueLock::new),
+        TIMEOUT_CLH_QUEUE_LOCK(TimeoutClhQueueLock::new),
         CLH_QUEUE_LOCK_WITH_HASHMAP(ClhQueueWithHashMapLock::new),
         FANCY_CLH_QUEUE_LOCK(FancyClhQueueLock::new),
+        PARKING_CLH_QUEUE_LOCK(ParkingClhQueueLock::new),
         MCS_LOCK(McsLock::new),
-        REENTRANT_LIKE_QUEUE_LOCK(ReentrantLikeQueueLock::new);
+        MCS_LOCK_FIXED_SPINS(() -> new McsLock(false)),
+        REENTRANT_LIKE_QUEUE_LOCK(ReentrantLikeQueueLock::new),
+        COHORT_LOCK(CohortLock::new),
+        COHORT_LOCK_WITH_HASHED_CLUSTERS(() -> new CohortLock(CpuTopology.hashingThreadIds(4), 4));
 
         final Supplier<SimpleLock> factory;
 
@@ -121,4 +135,109 @@ class SimpleLockTest {
         assumeThat(lock.hasCheckedUnlock()).isTrue();
         assertThatExceptionOfType(IllegalMonitorStateException.class).isThrownBy(lock::unlock);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @EnumSource
+    void tryLockShouldFailWhileLockIsHeldByAnotherThread(LockImpl impl) throws InterruptedException {
+        var lock = impl.factory.get();
+
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> lock.runWithLock(() -> {
+            locked.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }), executor);
+
+        locked.await();
+        assertThat(lock.tryLock()).isFalse();
+        assertThat(lock.tryLock(10, TimeUnit.MILLISECONDS)).isFalse();
+
+        Thread.currentThread().interrupt();
+        assertThatExceptionOfType(InterruptedException.class).isThrownBy(() -> lock.tryLock(1, TimeUnit.SECONDS));
+        assertThat(Thread.interrupted()).isFalse();
+
+        release.countDown();
+        assertThat(holder).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(lock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+        lock.unlock();
+        assertThat(lock.tryLock()).isTrue();
+        lock.unlock();
+    }
+
+    @Test
+    void parkingClhQueueLockShouldKeepParkingAfterInterruptsAndRestoreTheFlag() throws InterruptedException {
+        var lock = new ParkingClhQueueLock();
+        var interruptedAfterLocking = new AtomicBoolean();
+
+        lock.lock();
+        var waiter = Thread.ofPlatform().start(() -> lock.runWithLock(() -> interruptedAfterLocking.set(Thread.interrupted())));
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> waiter.getState() == Thread.State.WAITING);
+
+        waiter.interrupt();
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> waiter.getState() == Thread.State.WAITING && !waiter.isInterrupted());
+
+        lock.unlock();
+        waiter.join(1000);
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(interruptedAfterLocking).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void timedOutTryLocksShouldNotBreakMutualExclusion(LockImpl impl) {
+        var lock = impl.factory.get();
+
+        var sharedLongs = new long[32];
+        var successfulIncrements = new AtomicLong();
+        Runnable incrementAll = () -> {
+            for (int i = 0; i < sharedLongs.length; i++) {
+                sharedLongs[i]++;
+            }
+        };
+
+        final var attemptsPerThread = 2_000;
+        final var numThreads = 4;
+
+        CompletableFuture<?>[] jobs = IntStream.range(0, numThreads)
+                .mapToObj(_ -> CompletableFuture.runAsync(() -> {
+                            var random = ThreadLocalRandom.current();
+                            for (int i = 0; i < attemptsPerThread; i++) {
+                                var acquired = switch (i % 3) {
+                                    case 0 -> {
+                                        lock.lock();
+                                        yield true;
+                                    }
+                                    case 1 -> lock.tryLock();
+                                    default -> {
+                                        try {
+                                            yield lock.tryLock(random.nextLong(50), TimeUnit.MICROSECONDS);
+                                        } catch (InterruptedException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                    }
+                                };
+
+                                if (acquired) {
+                                    try {
+                                        incrementAll.run();
+                                        successfulIncrements.incrementAndGet();
+                                    } finally {
+                                        lock.unlock();
+                                    }
+                                }
+                            }
+                        }, executor)
+                ).toArray(CompletableFuture[]::new);
+        assertThat(CompletableFuture.allOf(jobs)).succeedsWithin(10, TimeUnit.SECONDS);
+
+        var expectedValues = new long[sharedLongs.length];
+        Arrays.fill(expectedValues, successfulIncrements.get());
+        assertThat(sharedLongs).isEqualTo(expectedValues);
+        assertThat(successfulIncrements.get()).isGreaterThanOrEqualTo(attemptsPerThread * numThreads / 3);
+    }
+}
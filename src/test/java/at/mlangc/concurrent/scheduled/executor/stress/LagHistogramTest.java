@@ -0,0 +1,37 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LagHistogramTest {
+    @Property
+    void bucketsShouldContainTheirValuesWithBoundedRelativeError(@ForAll @LongRange(min = 0, max = Long.MAX_VALUE) long value) {
+        var bucket = LagHistogram.bucketOf(value);
+        var lower = bucket == 0 ? 0 : LagHistogram.highestValueIn(bucket - 1) + 1;
+        var upper = LagHistogram.highestValueIn(bucket);
+
+        assertThat(value).isBetween(lower, upper);
+        assertThat(upper - lower).isLessThanOrEqualTo(Math.max(1, value / 16));
+    }
+
+    @Test
+    void shouldReportPercentiles() {
+        var histogram = new LagHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        histogram.record(-5);
+
+        assertThat(histogram.count()).isEqualTo(1001);
+        assertThat(histogram.max()).isEqualTo(1_000_000);
+        assertThat((double) histogram.valueAtPercentile(50)).isCloseTo(500_000, within(500_000 / 16.0));
+        assertThat((double) histogram.valueAtPercentile(99)).isCloseTo(990_000, within(990_000 / 16.0));
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+}
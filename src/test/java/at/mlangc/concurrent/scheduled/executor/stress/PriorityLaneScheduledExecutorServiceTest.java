@@ -0,0 +1,52 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import at.mlangc.concurrent.scheduled.executor.stress.PriorityLaneScheduledExecutorService.Lane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriorityLaneScheduledExecutorServiceTest {
+    private final PriorityLaneScheduledExecutorService executor = new PriorityLaneScheduledExecutorService(1, 4);
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void timedTasksShouldNotWaitBehindSubmissions() {
+        var completedSubmissions = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                ExecutorStressHelpers.milliSleep(1);
+                completedSubmissions.incrementAndGet();
+            });
+        }
+
+        var t0 = System.nanoTime();
+        var timer = executor.schedule(() -> System.nanoTime() - t0, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(timer).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(elapsedNanos -> assertThat(elapsedNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertThat(completedSubmissions.get()).isLessThan(1000);
+        assertThat(executor.depth(Lane.SUBMITTED)).isPositive();
+    }
+
+    @Test
+    void shouldExposeLaneMetrics() {
+        var registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+
+        executor.execute(() -> { });
+        assertThat(executor.schedule(() -> 42, 1, TimeUnit.MILLISECONDS)).succeedsWithin(1, TimeUnit.SECONDS);
+
+        assertThat(registry.get("executor.lane.depth").tag("lane", "submitted").gauge().value()).isZero();
+        assertThat(registry.get("executor.lane.wait").tags("lane", "timed", "statistic", "max").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+}
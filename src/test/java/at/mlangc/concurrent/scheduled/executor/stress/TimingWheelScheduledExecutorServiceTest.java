@@ -0,0 +1,68 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelScheduledExecutorServiceTest {
+    private final TimingWheelScheduledExecutorService executor = new TimingWheelScheduledExecutorService();
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldNotRunScheduledTasksEarly() {
+        var t0 = System.nanoTime();
+        var future = executor.schedule(() -> System.nanoTime() - t0, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(elapsedNanos -> assertThat(elapsedNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    void shouldNotRunCancelledTasks() {
+        var runs = new AtomicInteger();
+        var futures = new ArrayList<ScheduledFuture<?>>();
+        for (int i = 0; i < 10_000; i++) {
+            futures.add(executor.schedule(runs::incrementAndGet, i % 100, TimeUnit.MILLISECONDS));
+        }
+
+        var cancelled = 0;
+        for (int i = 0; i < futures.size(); i += 2) {
+            if (futures.get(i).cancel(false)) {
+                cancelled++;
+            }
+        }
+
+        var expectedRuns = futures.size() - cancelled;
+        Awaitility.await()
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(runs.get()).isEqualTo(expectedRuns));
+    }
+
+    @Test
+    void shouldRunPeriodicTasksUntilCancelled() throws InterruptedException {
+        var runs = new AtomicInteger();
+        var schedule = executor.scheduleAtFixedRate(runs::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS);
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(runs.get()).isGreaterThan(5));
+
+        schedule.cancel(false);
+        Thread.sleep(20);
+        var runsAfterCancel = runs.get();
+        Thread.sleep(50);
+        assertThat(runs.get()).isEqualTo(runsAfterCancel);
+    }
+}
@@ -0,0 +1,69 @@
+package at.mlangc.concurrent.scheduled.executor.stress;
+
+import at.mlangc.concurrent.scheduled.executor.stress.VirtualThreadScheduledExecutorService.CatchUpPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadScheduledExecutorServiceTest {
+    @Test
+    void blockingTasksShouldNotDelayOtherSchedules() throws InterruptedException {
+        var executor = new VirtualThreadScheduledExecutorService();
+        try {
+            executor.scheduleAtFixedRate(() -> ExecutorStressHelpers.milliSleep(1000), 0, 10, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> ExecutorStressHelpers.milliSleep(1000));
+            }
+
+            var t0 = System.nanoTime();
+            var future = executor.schedule(() -> System.nanoTime() - t0, 50, TimeUnit.MILLISECONDS);
+            assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                    .satisfies(elapsedNanos -> assertThat(elapsedNanos).isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(500)));
+        } finally {
+            executor.shutdownNow();
+            assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void shouldCatchUpAccordingToPolicy(CatchUpPolicy catchUpPolicy) throws InterruptedException {
+        var executor = new VirtualThreadScheduledExecutorService(catchUpPolicy);
+        var startTimes = Collections.synchronizedList(new ArrayList<Long>());
+
+        try {
+            var t0 = System.nanoTime();
+            var schedule = executor.scheduleAtFixedRate(() -> {
+                startTimes.add(System.nanoTime() - t0);
+                if (startTimes.size() == 1) {
+                    ExecutorStressHelpers.milliSleep(100);
+                }
+            }, 0, 20, TimeUnit.MILLISECONDS);
+
+            Thread.sleep(200);
+            schedule.cancel(false);
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(startTimes).hasSizeGreaterThan(2);
+        var blockEnd = startTimes.getFirst() + TimeUnit.MILLISECONDS.toNanos(100);
+        var runsRightAfterBlock = startTimes.stream()
+                .skip(1)
+                .filter(t -> t < blockEnd + TimeUnit.MILLISECONDS.toNanos(5))
+                .count();
+
+        switch (catchUpPolicy) {
+            case BURST -> assertThat(runsRightAfterBlock).isGreaterThanOrEqualTo(3);
+            case COALESCE -> assertThat(runsRightAfterBlock).isEqualTo(1);
+            case SKIP_MISSED -> assertThat(runsRightAfterBlock).isLessThanOrEqualTo(1);
+        }
+    }
+}
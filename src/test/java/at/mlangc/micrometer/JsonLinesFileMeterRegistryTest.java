@@ -0,0 +1,41 @@
+package at.mlangc.micrometer;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesFileMeterRegistryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldDumpMetersAsJsonLines() throws IOException {
+        var clock = new MockClock();
+        var step = Duration.ofSeconds(1);
+        var file = tempDir.resolve("metrics.jsonl");
+        var registry = new JsonLinesFileMeterRegistry(file, step, clock);
+
+        try {
+            registry.counter("events", "source", "test \"quoted\"").increment(3);
+            clock.add(step);
+            registry.publish();
+        } finally {
+            registry.close();
+        }
+
+        assertThat(Files.readAllLines(file))
+                .isNotEmpty()
+                .anySatisfy(line -> assertThat(line)
+                        .startsWith("{\"timestamp\":")
+                        .contains("\"name\":\"events\"", "\"type\":\"counter\"")
+                        .contains("\"tags\":{\"source\":\"test \\\"quoted\\\"\"}")
+                        .contains("\"count\":3.0"));
+    }
+}